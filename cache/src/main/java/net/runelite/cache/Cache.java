@@ -45,6 +45,7 @@ public class Cache
 		options.addOption(null, "npcs", true, "directory to dump npcs to");
 		options.addOption(null, "objects", true, "directory to dump objects to");
 		options.addOption(null, "sprites", true, "directory to dump sprites to");
+		options.addOption(null, "diff", true, "cache base to diff against, printing changes as json");
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -115,6 +116,19 @@ public class Cache
 			System.out.println("Dumping sprites to " + spritedir);
 			dumpSprites(store, new File(spritedir));
 		}
+		else if (cmd.hasOption("diff"))
+		{
+			String diffcache = cmd.getOptionValue("diff");
+
+			if (diffcache == null)
+			{
+				System.err.println("Cache to diff against must be specified");
+				return;
+			}
+
+			Store other = loadStore(diffcache);
+			System.out.println(CacheDiff.diff(other, store).toJson());
+		}
 		else
 		{
 			System.err.println("Nothing to do");
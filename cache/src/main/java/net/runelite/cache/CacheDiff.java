@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import lombok.Getter;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.Djb2;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Differences between two caches. Indexes and archives with matching crcs and
+ * revisions are skipped without being loaded, so only archives which have changed
+ * are read and decompressed.
+ * <p>
+ * Changes are keyed by type. Config archives report definition ids, eg. {@code item},
+ * {@code npc}, and {@code object}, {@code maps} reports region ids, {@code scripts}
+ * reports script ids, and other indexes report archive ids keyed by the index name.
+ * Map index archives which are not part of a region are reported under {@code index5}.
+ */
+public class CacheDiff
+{
+	private static final Logger logger = LoggerFactory.getLogger(CacheDiff.class);
+
+	private static final Map<Integer, ConfigType> CONFIG_TYPES = new HashMap<>();
+	private static final Map<Integer, IndexType> INDEX_TYPES = new HashMap<>();
+
+	static
+	{
+		for (ConfigType type : ConfigType.values())
+		{
+			CONFIG_TYPES.put(type.getId(), type);
+		}
+		for (IndexType type : IndexType.values())
+		{
+			INDEX_TYPES.put(type.getNumber(), type);
+		}
+	}
+
+	@Getter
+	public static class Changes
+	{
+		private final SortedSet<Integer> added = new TreeSet<>();
+		private final SortedSet<Integer> removed = new TreeSet<>();
+		private final SortedSet<Integer> changed = new TreeSet<>();
+
+		public boolean isEmpty()
+		{
+			return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+		}
+	}
+
+	private final Store from;
+	private final Store to;
+	private final Map<String, Changes> changes = new TreeMap<>();
+	// region id of each map and location archive name hash, built on first use
+	private Map<Integer, Integer> regionNames;
+	@Getter
+	private int loadedArchives;
+
+	private CacheDiff(Store from, Store to)
+	{
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Diff two loaded stores
+	 *
+	 * @param from the old cache
+	 * @param to the new cache
+	 * @return
+	 * @throws IOException
+	 */
+	public static CacheDiff diff(Store from, Store to) throws IOException
+	{
+		CacheDiff diff = new CacheDiff(from, to);
+
+		SortedSet<Integer> indexIds = new TreeSet<>();
+		from.getIndexes().forEach(i -> indexIds.add(i.getId()));
+		to.getIndexes().forEach(i -> indexIds.add(i.getId()));
+
+		for (int id : indexIds)
+		{
+			Index fromIndex = from.findIndex(id);
+			Index toIndex = to.findIndex(id);
+			if (fromIndex != null && toIndex != null
+				&& fromIndex.getCrc() == toIndex.getCrc()
+				&& fromIndex.getRevision() == toIndex.getRevision())
+			{
+				continue;
+			}
+
+			diff.diffIndex(id, fromIndex, toIndex);
+		}
+
+		logger.debug("Diffed caches, loaded {} archives", diff.loadedArchives);
+		return diff;
+	}
+
+	public Map<String, Changes> getChanges()
+	{
+		return Collections.unmodifiableMap(changes);
+	}
+
+	public boolean isEmpty()
+	{
+		return changes.isEmpty();
+	}
+
+	public String toJson()
+	{
+		Gson gson = new GsonBuilder()
+			.setPrettyPrinting()
+			.create();
+		return gson.toJson(changes);
+	}
+
+	private void diffIndex(int indexId, Index fromIndex, Index toIndex) throws IOException
+	{
+		SortedSet<Integer> archiveIds = new TreeSet<>();
+		if (fromIndex != null)
+		{
+			fromIndex.getArchives().forEach(a -> archiveIds.add(a.getArchiveId()));
+		}
+		if (toIndex != null)
+		{
+			toIndex.getArchives().forEach(a -> archiveIds.add(a.getArchiveId()));
+		}
+
+		for (int archiveId : archiveIds)
+		{
+			Archive fromArchive = fromIndex != null ? fromIndex.getArchive(archiveId) : null;
+			Archive toArchive = toIndex != null ? toIndex.getArchive(archiveId) : null;
+			if (fromArchive != null && toArchive != null
+				&& fromArchive.getCrc() == toArchive.getCrc()
+				&& fromArchive.getRevision() == toArchive.getRevision())
+			{
+				continue;
+			}
+
+			if (indexId == IndexType.CONFIGS.getNumber() && CONFIG_TYPES.containsKey(archiveId))
+			{
+				diffFiles(CONFIG_TYPES.get(archiveId).name().toLowerCase(), fromArchive, toArchive);
+			}
+			else if (indexId == IndexType.MAPS.getNumber())
+			{
+				Archive archive = toArchive != null ? toArchive : fromArchive;
+				Integer regionId = getRegionNames().get(archive.getNameHash());
+				if (regionId != null)
+				{
+					// map and location archives are reported together by region, so a region is
+					// only added or removed if neither of its archives is in the other cache
+					add("maps", regionId,
+						fromArchive != null || hasRegion(fromIndex, regionId),
+						toArchive != null || hasRegion(toIndex, regionId));
+				}
+				else
+				{
+					// keep archive ids out of the region ids reported under maps
+					add("index" + indexId, archiveId, fromArchive, toArchive);
+				}
+			}
+			else if (indexId == IndexType.CLIENTSCRIPT.getNumber())
+			{
+				add("scripts", archiveId, fromArchive, toArchive);
+			}
+			else
+			{
+				add(getIndexName(indexId), archiveId, fromArchive, toArchive);
+			}
+		}
+	}
+
+	private void diffFiles(String type, Archive fromArchive, Archive toArchive) throws IOException
+	{
+		ArchiveFiles fromFiles = loadFiles(from, fromArchive);
+		ArchiveFiles toFiles = loadFiles(to, toArchive);
+
+		for (FSFile file : toFiles.getFiles())
+		{
+			FSFile fromFile = fromFiles.findFile(file.getFileId());
+			if (fromFile == null)
+			{
+				changesFor(type).added.add(file.getFileId());
+			}
+			else if (!Arrays.equals(fromFile.getContents(), file.getContents()))
+			{
+				changesFor(type).changed.add(file.getFileId());
+			}
+		}
+
+		for (FSFile file : fromFiles.getFiles())
+		{
+			if (toFiles.findFile(file.getFileId()) == null)
+			{
+				changesFor(type).removed.add(file.getFileId());
+			}
+		}
+	}
+
+	private ArchiveFiles loadFiles(Store store, Archive archive) throws IOException
+	{
+		if (archive == null)
+		{
+			return new ArchiveFiles();
+		}
+
+		byte[] data = store.getStorage().loadArchive(archive);
+		if (data == null)
+		{
+			return new ArchiveFiles();
+		}
+
+		++loadedArchives;
+		return archive.getFiles(data);
+	}
+
+	private void add(String type, int id, Archive fromArchive, Archive toArchive)
+	{
+		add(type, id, fromArchive != null, toArchive != null);
+	}
+
+	private void add(String type, int id, boolean inFrom, boolean inTo)
+	{
+		Changes c = changesFor(type);
+		if (inFrom && inTo)
+		{
+			c.changed.add(id);
+		}
+		else if (inTo)
+		{
+			c.added.add(id);
+		}
+		else
+		{
+			c.removed.add(id);
+		}
+	}
+
+	private static boolean hasRegion(Index index, int regionId)
+	{
+		if (index == null)
+		{
+			return false;
+		}
+
+		int x = regionId >> 8;
+		int y = regionId & 0xFF;
+		return index.findArchiveByName("m" + x + "_" + y) != null
+			|| index.findArchiveByName("l" + x + "_" + y) != null;
+	}
+
+	private Changes changesFor(String type)
+	{
+		return changes.computeIfAbsent(type, k -> new Changes());
+	}
+
+	private Map<Integer, Integer> getRegionNames()
+	{
+		if (regionNames == null)
+		{
+			regionNames = new HashMap<>();
+			for (int i = 0; i < 32768; ++i)
+			{
+				int x = i >> 8;
+				int y = i & 0xFF;
+				regionNames.put(Djb2.hash("m" + x + "_" + y), i);
+				regionNames.put(Djb2.hash("l" + x + "_" + y), i);
+			}
+		}
+		return regionNames;
+	}
+
+	private static String getIndexName(int indexId)
+	{
+		IndexType type = INDEX_TYPES.get(indexId);
+		return type != null ? type.name().toLowerCase() : "index" + indexId;
+	}
+}
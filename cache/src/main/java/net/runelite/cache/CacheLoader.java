@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.common.base.Throwables;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Store;
+
+/**
+ * Loads a store and decodes its definitions using a {@link ForkJoinPool}.
+ * Index loading, archive decompression and definition decoding are all
+ * fanned out over the pool, producing the same results as the serial
+ * {@code load()} methods.
+ */
+public class CacheLoader implements Closeable
+{
+	@FunctionalInterface
+	public interface Task
+	{
+		void load(ForkJoinPool pool) throws IOException;
+	}
+
+	private final ForkJoinPool pool;
+
+	public CacheLoader()
+	{
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	public CacheLoader(int parallelism)
+	{
+		this.pool = new ForkJoinPool(parallelism);
+	}
+
+	@Override
+	public void close()
+	{
+		pool.shutdown();
+	}
+
+	public ForkJoinPool getPool()
+	{
+		return pool;
+	}
+
+	public void load(Store store) throws IOException
+	{
+		store.load(pool);
+	}
+
+	/**
+	 * Run the given loads concurrently, eg.
+	 * {@code loader.load(itemManager::load, npcManager::load)}
+	 *
+	 * @param tasks
+	 * @throws IOException
+	 */
+	public void load(Task... tasks) throws IOException
+	{
+		List<ForkJoinTask<?>> futures = new ArrayList<>(tasks.length);
+		for (Task task : tasks)
+		{
+			futures.add(pool.submit(() ->
+			{
+				task.load(pool);
+				return null;
+			}));
+		}
+
+		for (ForkJoinTask<?> future : futures)
+		{
+			join(future);
+		}
+	}
+
+	/**
+	 * Decode the files of an archive in parallel
+	 *
+	 * @param pool
+	 * @param files
+	 * @param loader loader taking the file id and contents
+	 * @param <T>
+	 * @return map of file id to definition
+	 * @throws IOException
+	 */
+	public static <T> Map<Integer, T> loadFiles(ForkJoinPool pool, ArchiveFiles files, BiFunction<Integer, byte[], T> loader) throws IOException
+	{
+		// parallel streams run in the pool of the task which starts them
+		return join(pool.submit(() -> files.getFiles().parallelStream()
+			.collect(Collectors.toMap(FSFile::getFileId, f -> loader.apply(f.getFileId(), f.getContents())))));
+	}
+
+	/**
+	 * Wait for a task to complete, rethrowing any IOException it threw
+	 *
+	 * @param task
+	 * @param <T>
+	 * @return
+	 * @throws IOException
+	 */
+	public static <T> T join(ForkJoinTask<T> task) throws IOException
+	{
+		try
+		{
+			return task.get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof UncheckedIOException)
+			{
+				cause = cause.getCause();
+			}
+			Throwables.throwIfInstanceOf(cause, IOException.class);
+			Throwables.throwIfUnchecked(cause);
+			throw new RuntimeException(cause);
+		}
+	}
+}
@@ -0,0 +1,453 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A snapshot of the decompressed config archives of a cache, so that definitions
+ * can be loaded without reading and decompressing the cache again. The snapshot
+ * is keyed by the crc and revision of every index, and is only valid for a store
+ * with matching indexes.
+ * <p>
+ * The format is:
+ * <pre>
+ * int magic, int version
+ * int index count, (int id, int crc, int revision) per index
+ * int archive count, (int config type, int revision, int offset) per archive
+ * per archive: int file count, (int id, int name hash, int length, byte[] contents) per file
+ * </pre>
+ */
+public class CacheSnapshot
+{
+	private static final Logger logger = LoggerFactory.getLogger(CacheSnapshot.class);
+
+	private static final int MAGIC = 0x524c4353; // RLCS
+	private static final int VERSION = 1;
+	private static final int MAX_INDEXES = 256;
+	private static final int MAX_SECTIONS = 256;
+
+	private final ByteBuffer buffer;
+	private final int[] indexKeys;
+	private final Map<Integer, Section> sections = new HashMap<>();
+
+	private static class Section
+	{
+		private int revision;
+		private int offset;
+	}
+
+	private static class Header
+	{
+		private int[] indexKeys;
+		private final Map<Integer, Section> sections = new HashMap<>();
+	}
+
+	private CacheSnapshot(ByteBuffer buffer, Header header)
+	{
+		this.buffer = buffer;
+		this.indexKeys = header.indexKeys;
+		this.sections.putAll(header.sections);
+	}
+
+	/**
+	 * Parse a snapshot header
+	 *
+	 * @param buf buffer positioned at the start of the header
+	 * @param size size of the snapshot, to validate section offsets against
+	 * @return
+	 * @throws IOException if the header is invalid
+	 */
+	private static Header readHeader(ByteBuffer buf, long size) throws IOException
+	{
+		try
+		{
+			if (buf.getInt() != MAGIC)
+			{
+				throw new IOException("not a cache snapshot");
+			}
+
+			int version = buf.getInt();
+			if (version != VERSION)
+			{
+				throw new IOException("unsupported snapshot version " + version);
+			}
+
+			Header header = new Header();
+			int indexCount = buf.getInt();
+			if (indexCount < 0 || indexCount > MAX_INDEXES)
+			{
+				throw new IOException("invalid index count");
+			}
+
+			header.indexKeys = new int[indexCount * 3];
+			for (int i = 0; i < header.indexKeys.length; ++i)
+			{
+				header.indexKeys[i] = buf.getInt();
+			}
+
+			int sectionCount = buf.getInt();
+			if (sectionCount < 0 || sectionCount > MAX_SECTIONS)
+			{
+				throw new IOException("invalid section count");
+			}
+
+			for (int i = 0; i < sectionCount; ++i)
+			{
+				int type = buf.getInt();
+				Section section = new Section();
+				section.revision = buf.getInt();
+				section.offset = buf.getInt();
+				if (section.offset < 0 || section.offset > size)
+				{
+					throw new IOException("invalid section offset");
+				}
+				header.sections.put(type, section);
+			}
+			return header;
+		}
+		catch (BufferUnderflowException ex)
+		{
+			throw new IOException("truncated cache snapshot", ex);
+		}
+	}
+
+	/**
+	 * Read the header of a snapshot without mapping it, so the file can still be replaced afterwards.
+	 *
+	 * @param file
+	 * @return
+	 * @throws IOException if the file is not a valid snapshot
+	 */
+	private static Header readHeader(File file) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			// magic, version, index count
+			ByteBuffer buf = read(channel, null, 12);
+			int indexCount = buf.getInt(8);
+			if (indexCount < 0 || indexCount > MAX_INDEXES)
+			{
+				throw new IOException("invalid index count");
+			}
+
+			// index keys, section count
+			buf = read(channel, buf, indexCount * 12 + 4);
+			int sectionCount = buf.getInt(buf.limit() - 4);
+			if (sectionCount < 0 || sectionCount > MAX_SECTIONS)
+			{
+				throw new IOException("invalid section count");
+			}
+
+			buf = read(channel, buf, sectionCount * 12);
+			return readHeader(buf, channel.size());
+		}
+	}
+
+	/**
+	 * Read the next length bytes of a channel, appended to the contents of a buffer
+	 */
+	private static ByteBuffer read(FileChannel channel, ByteBuffer prefix, int length) throws IOException
+	{
+		int prefixLength = prefix != null ? prefix.limit() : 0;
+		ByteBuffer buf = ByteBuffer.allocate(prefixLength + length);
+		if (prefix != null)
+		{
+			buf.put(prefix.duplicate().position(0));
+		}
+
+		while (buf.hasRemaining())
+		{
+			if (channel.read(buf) < 0)
+			{
+				throw new IOException("truncated cache snapshot");
+			}
+		}
+		return buf.flip();
+	}
+
+	/**
+	 * Load a snapshot by memory mapping it.
+	 *
+	 * @param file
+	 * @return
+	 * @throws IOException if the file is not a valid snapshot
+	 */
+	public static CacheSnapshot load(File file) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new CacheSnapshot(buffer, readHeader(buffer.duplicate(), buffer.limit()));
+		}
+	}
+
+	/**
+	 * Load the snapshot for a store, (re)writing it first if it is missing,
+	 * unreadable, or was written from different indexes.
+	 *
+	 * @param store a loaded store
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	public static CacheSnapshot load(Store store, File file) throws IOException
+	{
+		if (file.exists())
+		{
+			// only map the snapshot once it is known to be current. A file with a live mapping can't
+			// be replaced on Windows, which would stop the snapshot being rebuilt.
+			try
+			{
+				if (matches(store, readHeader(file).indexKeys))
+				{
+					return load(file);
+				}
+
+				logger.info("Cache snapshot {} is out of date, rebuilding", file);
+			}
+			catch (IOException ex)
+			{
+				logger.warn("Unable to read cache snapshot {}, rebuilding", file, ex);
+			}
+		}
+
+		write(store, file);
+		return load(file);
+	}
+
+	/**
+	 * Write a snapshot of the config archives of a store.
+	 *
+	 * @param store a loaded store
+	 * @param file
+	 * @throws IOException
+	 */
+	public static void write(Store store, File file) throws IOException
+	{
+		Storage storage = store.getStorage();
+		Index configs = store.getIndex(IndexType.CONFIGS);
+
+		List<ConfigType> types = new ArrayList<>();
+		List<Archive> archives = new ArrayList<>();
+		List<ArchiveFiles> archiveFiles = new ArrayList<>();
+		if (configs != null)
+		{
+			for (ConfigType type : ConfigType.values())
+			{
+				Archive archive = configs.getArchive(type.getId());
+				if (archive == null)
+				{
+					continue;
+				}
+
+				byte[] archiveData = storage.loadArchive(archive);
+				if (archiveData == null)
+				{
+					continue;
+				}
+
+				types.add(type);
+				archives.add(archive);
+				archiveFiles.add(archive.getFiles(archiveData));
+			}
+		}
+
+		List<Index> indexes = store.getIndexes();
+		long offset = 4 + 4 + 4 + indexes.size() * 12L + 4 + archives.size() * 12L;
+
+		File tmp = new File(file.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+		{
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+
+			out.writeInt(indexes.size());
+			for (Index index : indexes)
+			{
+				out.writeInt(index.getId());
+				out.writeInt(index.getCrc());
+				out.writeInt(index.getRevision());
+			}
+
+			out.writeInt(archives.size());
+			for (int i = 0; i < archives.size(); ++i)
+			{
+				if (offset > Integer.MAX_VALUE)
+				{
+					throw new IOException("snapshot too large");
+				}
+
+				out.writeInt(types.get(i).getId());
+				out.writeInt(archives.get(i).getRevision());
+				out.writeInt((int) offset);
+
+				offset += 4;
+				for (FSFile f : archiveFiles.get(i).getFiles())
+				{
+					offset += 12 + f.getSize();
+				}
+			}
+
+			for (ArchiveFiles files : archiveFiles)
+			{
+				out.writeInt(files.getFiles().size());
+				for (FSFile f : files.getFiles())
+				{
+					out.writeInt(f.getFileId());
+					out.writeInt(f.getNameHash());
+					out.writeInt(f.getSize());
+					out.write(f.getContents());
+				}
+			}
+		}
+
+		try
+		{
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		logger.debug("Wrote cache snapshot of {} archives to {}", archives.size(), file);
+	}
+
+	/**
+	 * Check if this snapshot was written from a store with the same indexes.
+	 *
+	 * @param store
+	 * @return
+	 */
+	public boolean matches(Store store)
+	{
+		return matches(store, indexKeys);
+	}
+
+	private static boolean matches(Store store, int[] indexKeys)
+	{
+		List<Index> indexes = store.getIndexes();
+		if (indexes.size() * 3 != indexKeys.length)
+		{
+			return false;
+		}
+
+		for (int i = 0; i < indexes.size(); ++i)
+		{
+			Index index = indexes.get(i);
+			if (index.getId() != indexKeys[i * 3]
+				|| index.getCrc() != indexKeys[i * 3 + 1]
+				|| index.getRevision() != indexKeys[i * 3 + 2])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean contains(ConfigType type)
+	{
+		return sections.containsKey(type.getId());
+	}
+
+	/**
+	 * Get the revision of the archive of a config type
+	 *
+	 * @param type
+	 * @return
+	 */
+	public int getRevision(ConfigType type)
+	{
+		return getSection(type).revision;
+	}
+
+	/**
+	 * Get the files of the archive of a config type
+	 *
+	 * @param type
+	 * @return
+	 * @throws IOException if the snapshot is corrupt
+	 */
+	public ArchiveFiles getFiles(ConfigType type) throws IOException
+	{
+		Section section = getSection(type);
+		ByteBuffer buf = buffer.duplicate();
+		buf.position(section.offset);
+
+		try
+		{
+			ArchiveFiles files = new ArchiveFiles();
+			int count = buf.getInt();
+			for (int i = 0; i < count; ++i)
+			{
+				FSFile file = new FSFile(buf.getInt());
+				file.setNameHash(buf.getInt());
+				byte[] contents = new byte[buf.getInt()];
+				buf.get(contents);
+				file.setContents(contents);
+				files.addFile(file);
+			}
+			return files;
+		}
+		catch (BufferUnderflowException | IllegalArgumentException | IllegalStateException | NegativeArraySizeException ex)
+		{
+			throw new IOException("corrupt cache snapshot", ex);
+		}
+	}
+
+	private Section getSection(ConfigType type)
+	{
+		Section section = sections.get(type.getId());
+		if (section == null)
+		{
+			throw new IllegalArgumentException("no archive for " + type + " in snapshot");
+		}
+		return section;
+	}
+}
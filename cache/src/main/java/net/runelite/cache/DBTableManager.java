@@ -29,6 +29,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import net.runelite.cache.definitions.DBTableDefinition;
 import net.runelite.cache.definitions.loaders.DBTableLoader;
 import net.runelite.cache.fs.Archive;
@@ -52,6 +53,34 @@ public class DBTableManager
 	{
 		DBTableLoader loader = new DBTableLoader();
 
+		ArchiveFiles files = loadFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		for (FSFile f : files.getFiles())
+		{
+			DBTableDefinition table = loader.load(f.getFileId(), f.getContents());
+			tables.put(f.getFileId(), table);
+		}
+	}
+
+	public void load(ForkJoinPool pool) throws IOException
+	{
+		DBTableLoader loader = new DBTableLoader();
+
+		ArchiveFiles files = loadFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		tables.putAll(CacheLoader.loadFiles(pool, files, loader::load));
+	}
+
+	private ArchiveFiles loadFiles() throws IOException
+	{
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.DBTABLE.getId());
@@ -59,17 +88,11 @@ public class DBTableManager
 		// just in case the loader is being run on a cache that doesn't have them
 		if (archive == null)
 		{
-			return;
+			return null;
 		}
 
 		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
-
-		for (FSFile f : files.getFiles())
-		{
-			DBTableDefinition table = loader.load(f.getFileId(), f.getContents());
-			tables.put(f.getFileId(), table);
-		}
+		return archive.getFiles(archiveData);
 	}
 
 	public Collection<DBTableDefinition> getTables()
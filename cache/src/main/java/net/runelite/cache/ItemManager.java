@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.exporters.ItemExporter;
 import net.runelite.cache.definitions.loaders.ItemLoader;
@@ -56,12 +57,35 @@ public class ItemManager implements ItemProvider
 	{
 		ItemLoader loader = new ItemLoader();
 
-		Storage storage = store.getStorage();
-		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.ITEM.getId());
+		ArchiveFiles files = loadFiles();
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		for (FSFile f : files.getFiles())
+		{
+			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
+			items.put(f.getFileId(), def);
+		}
+	}
+
+	public void load(ForkJoinPool pool) throws IOException
+	{
+		ItemLoader loader = new ItemLoader();
+
+		ArchiveFiles files = loadFiles();
+
+		items.putAll(CacheLoader.loadFiles(pool, files, loader::load));
+	}
+
+	/**
+	 * Load from a snapshot instead of the store
+	 *
+	 * @param snapshot
+	 * @throws IOException
+	 */
+	public void load(CacheSnapshot snapshot) throws IOException
+	{
+		ItemLoader loader = new ItemLoader();
+
+		ArchiveFiles files = snapshot.getFiles(ConfigType.ITEM);
 
 		for (FSFile f : files.getFiles())
 		{
@@ -70,6 +94,16 @@ public class ItemManager implements ItemProvider
 		}
 	}
 
+	private ArchiveFiles loadFiles() throws IOException
+	{
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.ITEM.getId());
+
+		byte[] archiveData = storage.loadArchive(archive);
+		return archive.getFiles(archiveData);
+	}
+
 	public void link()
 	{
 		for (ItemDefinition oc : items.values())
@@ -24,17 +24,24 @@
  */
 package net.runelite.cache;
 
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.Futures;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
@@ -76,6 +83,7 @@ public class MapImageDumper
 {
 	private static final int MAP_SCALE = 4; // this squared is the number of pixels per map square
 	private static final int BLEND = 5; // number of surrounding tiles for ground blending
+	private static final int EXPORT_TILE_SIZE = Region.X * MAP_SCALE; // one region per tile at full scale
 
 	private static int[] colorPalette = JagexColor.createPalette(JagexColor.BRIGHTNESS_MIN);
 
@@ -125,6 +133,59 @@ public class MapImageDumper
 	@Setter
 	private boolean lowMemory = true;
 
+	/**
+	 * Number of threads to render with. If more than 1, the map is split into
+	 * tiles of {@link #tileRegions} by {@link #tileRegions} regions which are
+	 * rendered concurrently and then copied into the map image.
+	 */
+	@Getter
+	@Setter
+	private int renderThreads = 1;
+
+	@Getter
+	@Setter
+	private int tileRegions = 4;
+
+	/**
+	 * An image covering part of the map image. Writes are translated from map
+	 * image coordinates and clipped to the tile.
+	 */
+	private static class TileImage extends BufferedImage
+	{
+		private final int tileX;
+		private final int tileY;
+		private final int mapWidth;
+		private final int mapHeight;
+
+		TileImage(int tileX, int tileY, int width, int height, int mapWidth, int mapHeight, int imageType)
+		{
+			super(width, height, imageType);
+			this.tileX = tileX;
+			this.tileY = tileY;
+			this.mapWidth = mapWidth;
+			this.mapHeight = mapHeight;
+		}
+
+		@Override
+		public void setRGB(int x, int y, int rgb)
+		{
+			x -= tileX;
+			y -= tileY;
+			if (x >= 0 && y >= 0 && x < getWidth() && y < getHeight())
+			{
+				super.setRGB(x, y, rgb);
+			}
+		}
+
+		@Override
+		public Graphics2D createGraphics()
+		{
+			Graphics2D graphics = super.createGraphics();
+			graphics.translate(-tileX, -tileY);
+			return graphics;
+		}
+	}
+
 	public MapImageDumper(Store store, KeyProvider keyProvider)
 	{
 		this(store, new RegionLoader(store, keyProvider));
@@ -145,6 +206,8 @@ public class MapImageDumper
 		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("xteapath").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("threads").hasArg().build());
+		options.addOption(Option.builder().longOpt("tiles").desc("export a tile pyramid instead of one image per plane").build());
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -162,6 +225,7 @@ public class MapImageDumper
 		final String cacheDirectory = cmd.getOptionValue("cachedir");
 		final String xteaJSONPath = cmd.getOptionValue("xteapath");
 		final String outputDirectory = cmd.getOptionValue("outputdir");
+		final int threads = Integer.parseInt(cmd.getOptionValue("threads", "1"));
 
 		XteaKeyManager xteaKeyManager = new XteaKeyManager();
 		try (FileInputStream fin = new FileInputStream(xteaJSONPath))
@@ -178,10 +242,19 @@ public class MapImageDumper
 			store.load();
 
 			MapImageDumper dumper = new MapImageDumper(store, xteaKeyManager);
+			dumper.setRenderThreads(threads);
 			dumper.load();
 
 			for (int i = 0; i < Region.Z; ++i)
 			{
+				if (cmd.hasOption("tiles"))
+				{
+					File tileDir = new File(outDir, Integer.toString(i));
+					dumper.exportTiles(tileDir, i);
+					log.info("Wrote tiles to {}", tileDir);
+					continue;
+				}
+
 				BufferedImage image = dumper.drawMap(i);
 
 				File imageFile = new File(outDir, "img-" + i + ".png");
@@ -224,17 +297,8 @@ public class MapImageDumper
 
 	public BufferedImage drawMap(int z)
 	{
-		int minX = regionLoader.getLowestX().getBaseX();
-		int minY = regionLoader.getLowestY().getBaseY();
-
-		int maxX = regionLoader.getHighestX().getBaseX() + Region.X;
-		int maxY = regionLoader.getHighestY().getBaseY() + Region.Y;
-
-		int dimX = maxX - minX;
-		int dimY = maxY - minY;
-
-		int pixelsX = dimX * MAP_SCALE;
-		int pixelsY = dimY * MAP_SCALE;
+		int pixelsX = getMapWidth();
+		int pixelsY = getMapHeight();
 
 		log.info("Map image dimensions: {}px x {}px, {}px per map square ({} MB). Max memory: {}mb", pixelsX, pixelsY,
 			MAP_SCALE, (pixelsX * pixelsY * 3 / 1024 / 1024),
@@ -250,13 +314,335 @@ public class MapImageDumper
 			image = new BufferedImage(pixelsX, pixelsY, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
 		}
 
-		drawMap(image, z);
-		drawObjects(image, z);
-		drawMapIcons(image, z);
+		if (renderThreads > 1)
+		{
+			renderTiles(image, z);
+		}
+		else
+		{
+			drawMap(image, z);
+			drawObjects(image, z);
+			drawMapIcons(image, z);
+		}
 
 		return image;
 	}
 
+	/**
+	 * Export a plane as a pyramid of {@link #EXPORT_TILE_SIZE} pixel square tiles, written
+	 * to {@code outDir/<zoom>/<x>/<y>.png} with tile 0,0 in the north west. The highest zoom
+	 * level is at full scale, with one region per tile, and each lower level is downsampled
+	 * by half from the level above. Tiles are rendered directly, so the full map image is
+	 * never held in memory. Tiles which already exist are skipped, so an interrupted export
+	 * can be resumed.
+	 *
+	 * @param outDir
+	 * @param z
+	 * @throws IOException
+	 */
+	public void exportTiles(File outDir, int z) throws IOException
+	{
+		int mapWidth = getMapWidth();
+		int mapHeight = getMapHeight();
+		int tilesX = (mapWidth + EXPORT_TILE_SIZE - 1) / EXPORT_TILE_SIZE;
+		int tilesY = (mapHeight + EXPORT_TILE_SIZE - 1) / EXPORT_TILE_SIZE;
+
+		int maxZoom = 0;
+		while ((1 << maxZoom) < Math.max(tilesX, tilesY))
+		{
+			++maxZoom;
+		}
+
+		log.info("Exporting {}x{} tiles for plane {}, zoom levels 0-{}", tilesX, tilesY, z, maxZoom);
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, renderThreads));
+		try
+		{
+			List<Future<?>> futures = new ArrayList<>();
+			for (int tileY = 0; tileY < tilesY; ++tileY)
+			{
+				for (int tileX = 0; tileX < tilesX; ++tileX)
+				{
+					File file = getTileFile(outDir, maxZoom, tileX, tileY);
+					if (file.exists())
+					{
+						continue;
+					}
+
+					int x = tileX * EXPORT_TILE_SIZE, y = tileY * EXPORT_TILE_SIZE;
+					futures.add(executor.submit(() ->
+					{
+						BufferedImage tile = renderTile(z, x, y, EXPORT_TILE_SIZE, EXPORT_TILE_SIZE, mapWidth, mapHeight);
+						if (tile != null)
+						{
+							writeTile(tile, file);
+						}
+						return null;
+					}));
+				}
+			}
+			waitAll(futures);
+
+			for (int zoom = maxZoom - 1; zoom >= 0; --zoom)
+			{
+				int shift = maxZoom - zoom;
+				int levelX = (tilesX + (1 << shift) - 1) >> shift;
+				int levelY = (tilesY + (1 << shift) - 1) >> shift;
+
+				futures.clear();
+				for (int tileY = 0; tileY < levelY; ++tileY)
+				{
+					for (int tileX = 0; tileX < levelX; ++tileX)
+					{
+						File file = getTileFile(outDir, zoom, tileX, tileY);
+						if (file.exists())
+						{
+							continue;
+						}
+
+						int x = tileX, y = tileY, childZoom = zoom + 1;
+						futures.add(executor.submit(() ->
+						{
+							BufferedImage tile = downsampleTile(outDir, childZoom, x * 2, y * 2);
+							if (tile != null)
+							{
+								writeTile(tile, file);
+							}
+							return null;
+						}));
+					}
+				}
+				waitAll(futures);
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	private static File getTileFile(File outDir, int zoom, int x, int y)
+	{
+		return new File(outDir, zoom + File.separator + x + File.separator + y + ".png");
+	}
+
+	private static void writeTile(BufferedImage tile, File file) throws IOException
+	{
+		// write to a temporary file first so an interrupted export never leaves a partial tile
+		file.getParentFile().mkdirs();
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		ImageIO.write(tile, "png", tmp);
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private BufferedImage downsampleTile(File outDir, int childZoom, int childX, int childY) throws IOException
+	{
+		BufferedImage tile = null;
+		int half = EXPORT_TILE_SIZE / 2;
+
+		for (int dy = 0; dy < 2; ++dy)
+		{
+			for (int dx = 0; dx < 2; ++dx)
+			{
+				File childFile = getTileFile(outDir, childZoom, childX + dx, childY + dy);
+				if (!childFile.exists())
+				{
+					continue;
+				}
+
+				BufferedImage child = ImageIO.read(childFile);
+				if (tile == null)
+				{
+					tile = new BufferedImage(EXPORT_TILE_SIZE, EXPORT_TILE_SIZE, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+				}
+
+				int[] pixels = child.getRGB(0, 0, EXPORT_TILE_SIZE, EXPORT_TILE_SIZE, null, 0, EXPORT_TILE_SIZE);
+				for (int y = 0; y < half; ++y)
+				{
+					for (int x = 0; x < half; ++x)
+					{
+						int i = y * 2 * EXPORT_TILE_SIZE + x * 2;
+						tile.setRGB(dx * half + x, dy * half + y, average(
+							pixels[i], pixels[i + 1],
+							pixels[i + EXPORT_TILE_SIZE], pixels[i + EXPORT_TILE_SIZE + 1]));
+					}
+				}
+			}
+		}
+
+		return tile;
+	}
+
+	private static int average(int p1, int p2, int p3, int p4)
+	{
+		int argb = 0;
+		for (int shift = 0; shift < 32; shift += 8)
+		{
+			int sum = ((p1 >>> shift) & 0xFF) + ((p2 >>> shift) & 0xFF) + ((p3 >>> shift) & 0xFF) + ((p4 >>> shift) & 0xFF);
+			argb |= (sum / 4) << shift;
+		}
+		return argb;
+	}
+
+	private static void waitAll(List<Future<?>> futures) throws IOException
+	{
+		for (Future<?> future : futures)
+		{
+			try
+			{
+				Futures.getChecked(future, IOException.class);
+			}
+			catch (IOException ex)
+			{
+				Throwables.throwIfInstanceOf(ex.getCause(), IOException.class);
+				throw ex;
+			}
+		}
+	}
+
+	private void renderTiles(BufferedImage image, int z)
+	{
+		int tilePixels = tileRegions * Region.X * MAP_SCALE;
+		ExecutorService executor = Executors.newFixedThreadPool(renderThreads);
+		try
+		{
+			List<Future<?>> futures = new ArrayList<>();
+			for (int tileY = 0; tileY < image.getHeight(); tileY += tilePixels)
+			{
+				for (int tileX = 0; tileX < image.getWidth(); tileX += tilePixels)
+				{
+					int x = tileX, y = tileY;
+					int width = Math.min(tilePixels, image.getWidth() - tileX);
+					int height = Math.min(tilePixels, image.getHeight() - tileY);
+					futures.add(executor.submit(() -> renderTile(image, z, x, y, width, height)));
+				}
+			}
+
+			for (Future<?> future : futures)
+			{
+				Futures.getUnchecked(future);
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	private void renderTile(BufferedImage image, int z, int tileX, int tileY, int width, int height)
+	{
+		BufferedImage tile = renderTile(z, tileX, tileY, width, height, image.getWidth(), image.getHeight());
+		if (tile == null)
+		{
+			return;
+		}
+
+		int[] rgb = tile.getRGB(0, 0, width, height, null, 0, width);
+		synchronized (image)
+		{
+			image.setRGB(tileX, tileY, width, height, rgb, 0, width);
+		}
+	}
+
+	/**
+	 * Render part of the map
+	 *
+	 * @param z
+	 * @param tileX x of the tile in the map image
+	 * @param tileY y of the tile in the map image
+	 * @param width
+	 * @param height
+	 * @param mapWidth width of the map image
+	 * @param mapHeight height of the map image
+	 * @return the tile, or null if there are no regions near it
+	 */
+	private BufferedImage renderTile(int z, int tileX, int tileY, int width, int height, int mapWidth, int mapHeight)
+	{
+		// Objects and icons can be drawn past the edges of their region, so the regions
+		// around the tile are drawn too. Each pass draws regions in the same order as
+		// the untiled passes so overlapping pixels end up the same.
+		int regionPixels = Region.X * MAP_SCALE;
+		List<Region> regions = new ArrayList<>();
+		for (Region region : regionLoader.getRegions())
+		{
+			int x = getDrawBaseX(region) * MAP_SCALE;
+			int y = getDrawBaseY(region) * MAP_SCALE;
+			if (x + regionPixels * 2 > tileX && x - regionPixels < tileX + width
+				&& y + regionPixels * 2 > tileY && y - regionPixels < tileY + height)
+			{
+				regions.add(region);
+			}
+		}
+
+		if (regions.isEmpty())
+		{
+			return null;
+		}
+
+		TileImage tile = new TileImage(tileX, tileY, width, height, mapWidth, mapHeight,
+			transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+		for (Region region : regions)
+		{
+			int x = getDrawBaseX(region) * MAP_SCALE;
+			int y = getDrawBaseY(region) * MAP_SCALE;
+			if (x + regionPixels > tileX && x < tileX + width
+				&& y + regionPixels > tileY && y < tileY + height)
+			{
+				drawMap(tile, getDrawBaseX(region), getDrawBaseY(region), z, region);
+			}
+		}
+
+		for (Region region : regions)
+		{
+			drawObjects(tile, getDrawBaseX(region), getDrawBaseY(region), region, z);
+		}
+
+		for (Region region : regions)
+		{
+			drawMapIcons(tile, getDrawBaseX(region), getDrawBaseY(region), region, z);
+		}
+
+		return tile;
+	}
+
+	private int getMapWidth()
+	{
+		int minX = regionLoader.getLowestX().getBaseX();
+		int maxX = regionLoader.getHighestX().getBaseX() + Region.X;
+		return (maxX - minX) * MAP_SCALE;
+	}
+
+	private int getMapHeight()
+	{
+		int minY = regionLoader.getLowestY().getBaseY();
+		int maxY = regionLoader.getHighestY().getBaseY() + Region.Y;
+		return (maxY - minY) * MAP_SCALE;
+	}
+
+	private int getDrawBaseX(Region region)
+	{
+		// to pixel X
+		return region.getBaseX() - regionLoader.getLowestX().getBaseX();
+	}
+
+	private int getDrawBaseY(Region region)
+	{
+		// to pixel Y. top most y is 0, but the top most
+		// region has the greatest y, so invert
+		return regionLoader.getHighestY().getBaseY() - region.getBaseY();
+	}
+
+	private static int getImageWidth(BufferedImage image)
+	{
+		return image instanceof TileImage ? ((TileImage) image).mapWidth : image.getWidth();
+	}
+
+	private static int getImageHeight(BufferedImage image)
+	{
+		return image instanceof TileImage ? ((TileImage) image).mapHeight : image.getHeight();
+	}
+
 	private void drawNeighborObjects(BufferedImage image, int rx, int ry, int dx, int dy, int z)
 	{
 		Region neighbor = regionLoader.findRegionForRegionCoordinates(rx + dx, ry + dy);
@@ -703,7 +1089,7 @@ public class MapImageDumper
 							{
 								blitMapDecoration(image, drawX, drawY, object);
 							}
-							else if (drawX >= 0 && drawY >= 0 && drawX < image.getWidth() && drawY < image.getHeight())
+							else if (drawX >= 0 && drawY >= 0 && drawX < getImageWidth(image) && drawY < getImageHeight(image))
 							{
 								if (type == 0 || type == 2)
 								{
@@ -810,7 +1196,7 @@ public class MapImageDumper
 								continue;
 							}
 
-							if (drawX >= 0 && drawY >= 0 && drawX < image.getWidth() && drawY < image.getHeight())
+							if (drawX >= 0 && drawY >= 0 && drawX < getImageWidth(image) && drawY < getImageHeight(image))
 							{
 								int rgb = 0xFFEE_EEEE;
 								if (object.getWallOrDoor() != 0)
@@ -1147,10 +1533,10 @@ public class MapImageDumper
 		y += sprite.getOffsetY();
 
 		int ymin = Math.max(0, -y);
-		int ymax = Math.min(sprite.getHeight(), dst.getHeight() - y);
+		int ymax = Math.min(sprite.getHeight(), getImageHeight(dst) - y);
 
 		int xmin = Math.max(0, -x);
-		int xmax = Math.min(sprite.getWidth(), dst.getWidth() - x);
+		int xmax = Math.min(sprite.getWidth(), getImageWidth(dst) - x);
 
 		for (int yo = ymin; yo < ymax; yo++)
 		{
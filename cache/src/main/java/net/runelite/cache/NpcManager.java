@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import net.runelite.cache.definitions.NpcDefinition;
 import net.runelite.cache.definitions.exporters.NpcExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
@@ -54,15 +55,35 @@ public class NpcManager
 	public void load() throws IOException
 	{
 		NpcLoader loader = new NpcLoader();
+		ArchiveFiles files = loadFiles(loader);
 
-		Storage storage = store.getStorage();
-		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.NPC.getId());
+		for (FSFile f : files.getFiles())
+		{
+			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
+			npcs.put(f.getFileId(), npc);
+		}
+	}
 
-		loader.setRev210HeadIcons(archive.getRevision() >= NpcLoader.REV_210_NPC_ARCHIVE_REV);
+	public void load(ForkJoinPool pool) throws IOException
+	{
+		NpcLoader loader = new NpcLoader();
+		ArchiveFiles files = loadFiles(loader);
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		npcs.putAll(CacheLoader.loadFiles(pool, files, loader::load));
+	}
+
+	/**
+	 * Load from a snapshot instead of the store
+	 *
+	 * @param snapshot
+	 * @throws IOException
+	 */
+	public void load(CacheSnapshot snapshot) throws IOException
+	{
+		NpcLoader loader = new NpcLoader();
+		loader.setRev210HeadIcons(snapshot.getRevision(ConfigType.NPC) >= NpcLoader.REV_210_NPC_ARCHIVE_REV);
+
+		ArchiveFiles files = snapshot.getFiles(ConfigType.NPC);
 
 		for (FSFile f : files.getFiles())
 		{
@@ -71,6 +92,18 @@ public class NpcManager
 		}
 	}
 
+	private ArchiveFiles loadFiles(NpcLoader loader) throws IOException
+	{
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.NPC.getId());
+
+		loader.setRev210HeadIcons(archive.getRevision() >= NpcLoader.REV_210_NPC_ARCHIVE_REV);
+
+		byte[] archiveData = storage.loadArchive(archive);
+		return archive.getFiles(archiveData);
+	}
+
 	public Collection<NpcDefinition> getNpcs()
 	{
 		return Collections.unmodifiableCollection(npcs.values());
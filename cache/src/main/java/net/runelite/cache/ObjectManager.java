@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.definitions.exporters.ObjectExporter;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
@@ -55,12 +56,35 @@ public class ObjectManager
 	{
 		ObjectLoader loader = new ObjectLoader();
 
-		Storage storage = store.getStorage();
-		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.OBJECT.getId());
+		ArchiveFiles files = loadFiles();
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		for (FSFile f : files.getFiles())
+		{
+			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
+			objects.put(f.getFileId(), def);
+		}
+	}
+
+	public void load(ForkJoinPool pool) throws IOException
+	{
+		ObjectLoader loader = new ObjectLoader();
+
+		ArchiveFiles files = loadFiles();
+
+		objects.putAll(CacheLoader.loadFiles(pool, files, loader::load));
+	}
+
+	/**
+	 * Load from a snapshot instead of the store
+	 *
+	 * @param snapshot
+	 * @throws IOException
+	 */
+	public void load(CacheSnapshot snapshot) throws IOException
+	{
+		ObjectLoader loader = new ObjectLoader();
+
+		ArchiveFiles files = snapshot.getFiles(ConfigType.OBJECT);
 
 		for (FSFile f : files.getFiles())
 		{
@@ -69,6 +93,16 @@ public class ObjectManager
 		}
 	}
 
+	private ArchiveFiles loadFiles() throws IOException
+	{
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.OBJECT.getId());
+
+		byte[] archiveData = storage.loadArchive(archive);
+		return archive.getFiles(archiveData);
+	}
+
 	public Collection<ObjectDefinition> getObjects()
 	{
 		return Collections.unmodifiableCollection(objects.values());
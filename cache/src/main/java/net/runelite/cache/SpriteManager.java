@@ -29,8 +29,12 @@ import com.google.common.collect.Multimap;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 import net.runelite.cache.definitions.SpriteDefinition;
 import net.runelite.cache.definitions.exporters.SpriteExporter;
 import net.runelite.cache.definitions.loaders.SpriteLoader;
@@ -69,6 +73,38 @@ public class SpriteManager implements SpriteProvider
 		}
 	}
 
+	public void load(ForkJoinPool pool) throws IOException
+	{
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.SPRITES);
+
+		// decompress and decode each archive in parallel, but insert in archive order
+		List<SpriteDefinition[]> archives = CacheLoader.join(pool.submit(() -> index.getArchives().parallelStream()
+			.map(a ->
+			{
+				try
+				{
+					byte[] contents = a.decompress(storage.loadArchive(a));
+
+					SpriteLoader loader = new SpriteLoader();
+					return loader.load(a.getArchiveId(), contents);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			})
+			.collect(Collectors.toList())));
+
+		for (SpriteDefinition[] defs : archives)
+		{
+			for (SpriteDefinition sprite : defs)
+			{
+				sprites.put(sprite.getId(), sprite);
+			}
+		}
+	}
+
 	public Collection<SpriteDefinition> getSprites()
 	{
 		return Collections.unmodifiableCollection(sprites.values());
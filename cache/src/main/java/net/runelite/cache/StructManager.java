@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import net.runelite.cache.definitions.StructDefinition;
 import net.runelite.cache.definitions.loaders.StructLoader;
 import net.runelite.cache.definitions.providers.StructProvider;
@@ -52,12 +53,35 @@ public class StructManager implements StructProvider
 	{
 		StructLoader loader = new StructLoader();
 
-		Storage storage = store.getStorage();
-		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.STRUCT.getId());
+		ArchiveFiles files = loadFiles();
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		for (FSFile f : files.getFiles())
+		{
+			StructDefinition def = loader.load(f.getFileId(), f.getContents());
+			structs.put(f.getFileId(), def);
+		}
+	}
+
+	public void load(ForkJoinPool pool) throws IOException
+	{
+		StructLoader loader = new StructLoader();
+
+		ArchiveFiles files = loadFiles();
+
+		structs.putAll(CacheLoader.loadFiles(pool, files, loader::load));
+	}
+
+	/**
+	 * Load from a snapshot instead of the store
+	 *
+	 * @param snapshot
+	 * @throws IOException
+	 */
+	public void load(CacheSnapshot snapshot) throws IOException
+	{
+		StructLoader loader = new StructLoader();
+
+		ArchiveFiles files = snapshot.getFiles(ConfigType.STRUCT);
 
 		for (FSFile f : files.getFiles())
 		{
@@ -66,6 +90,16 @@ public class StructManager implements StructProvider
 		}
 	}
 
+	private ArchiveFiles loadFiles() throws IOException
+	{
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.STRUCT.getId());
+
+		byte[] archiveData = storage.loadArchive(archive);
+		return archive.getFiles(archiveData);
+	}
+
 	public Map<Integer, StructDefinition> getStructs()
 	{
 		return Collections.unmodifiableMap(structs);
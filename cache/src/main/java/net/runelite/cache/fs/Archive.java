@@ -168,7 +168,12 @@ public class Archive
 
 	public void setNameHash(int nameHash)
 	{
+		int oldNameHash = this.nameHash;
 		this.nameHash = nameHash;
+		if (oldNameHash != nameHash)
+		{
+			index.archiveNameChanged(this, oldNameHash);
+		}
 	}
 
 	public int getCrc()
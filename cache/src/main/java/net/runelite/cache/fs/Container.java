@@ -27,11 +27,12 @@ package net.runelite.cache.fs;
 import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.util.Arrays;
 import net.runelite.cache.fs.jagex.CompressionType;
-import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 import net.runelite.cache.util.BZip2;
 import net.runelite.cache.util.Crc32;
+import net.runelite.cache.util.Decompressor;
 import net.runelite.cache.util.GZip;
 import net.runelite.cache.util.Xtea;
 import org.slf4j.Logger;
@@ -41,6 +42,9 @@ public class Container
 {
 	private static final Logger logger = LoggerFactory.getLogger(Container.class);
 
+	private static volatile Decompressor bzip2Decompressor = BZip2::decompress;
+	private static volatile Decompressor gzipDecompressor = GZip::decompress;
+
 	public byte[] data;
 	public int compression; // compression
 	public int revision;
@@ -96,86 +100,103 @@ public class Container
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
 	{
-		InputStream stream = new InputStream(b);
+		return decompress(b, 0, b.length, keys, null);
+	}
 
-		int compression = stream.readUnsignedByte();
-		int compressedLength = stream.readInt();
-		if (compressedLength < 0 || compressedLength > 1000000)
+	/**
+	 * Decompress a container held in a slice of an array.
+	 *
+	 * @param b
+	 * @param offset
+	 * @param length
+	 * @param keys xtea keys, or null if the container is not encrypted
+	 * @param buffer buffer to decrypt into. If this is {@code b} the slice is decrypted in place,
+	 * otherwise it is used if it is large enough and a new buffer is allocated if not. May be null.
+	 * @return
+	 * @throws IOException
+	 */
+	public static Container decompress(byte[] b, int offset, int length, int[] keys, byte[] buffer) throws IOException
+	{
+		if (length < 5)
 		{
 			throw new RuntimeException("Invalid data");
 		}
 
-		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
+		int compression = b[offset] & 0xFF;
+		int compressedLength = Ints.fromBytes(b[offset + 1], b[offset + 2], b[offset + 3], b[offset + 4]);
+		if (compressedLength < 0 || compressedLength > 1000000)
+		{
+			throw new RuntimeException("Invalid data");
+		}
 
-		byte[] data;
-		int revision = -1;
+		int encryptedLength;
 		switch (compression)
 		{
 			case CompressionType.NONE:
-			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
+				encryptedLength = compressedLength;
+				break;
+			case CompressionType.BZ2:
+			case CompressionType.GZ:
+				encryptedLength = compressedLength + 4; // decompressed length
+				break;
+			default:
+				throw new RuntimeException("Unknown decompression type");
+		}
 
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
+		if (encryptedLength > length - 5)
+		{
+			throw new RuntimeException("Invalid data");
+		}
 
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
+		Crc32 crc32 = new Crc32();
+		crc32.update(b, offset, 5 + encryptedLength); // compression + length + data
 
-				data = decryptedData;
+		int revision = -1;
+		int revisionOffset = offset + 5 + encryptedLength;
+		if (length - 5 - encryptedLength >= 2)
+		{
+			revision = ((b[revisionOffset] & 0xFF) << 8) | (b[revisionOffset + 1] & 0xFF);
+		}
 
-				break;
-			}
-			case CompressionType.BZ2:
+		int dataOffset = offset + 5;
+		if (keys != null)
+		{
+			if (buffer != b)
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
+				if (buffer == null || buffer.length < encryptedLength)
 				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
+					buffer = new byte[encryptedLength];
 				}
+				System.arraycopy(b, dataOffset, buffer, 0, encryptedLength);
+				b = buffer;
+				dataOffset = 0;
+			}
 
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = BZip2.decompress(stream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
+			Xtea xtea = new Xtea(keys);
+			xtea.decrypt(b, dataOffset, encryptedLength);
+		}
 
+		byte[] data;
+		switch (compression)
+		{
+			case CompressionType.NONE:
+				data = Arrays.copyOfRange(b, dataOffset, dataOffset + compressedLength);
 				break;
-			}
+			case CompressionType.BZ2:
 			case CompressionType.GZ:
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
+				int decompressedLength = Ints.fromBytes(b[dataOffset], b[dataOffset + 1], b[dataOffset + 2], b[dataOffset + 3]);
+				if (decompressedLength < 0)
 				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
+					throw new RuntimeException("Invalid data");
 				}
 
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = GZip.decompress(stream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
-
+				data = new byte[decompressedLength];
+				getDecompressor(compression).decompress(b, dataOffset + 4, compressedLength, data);
 				break;
 			}
 			default:
-				throw new RuntimeException("Unknown decompression type");
+				throw new IllegalStateException();
 		}
 
 		Container container = new Container(compression, revision);
@@ -184,15 +205,38 @@ public class Container
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
+	public static Decompressor getDecompressor(int compression)
 	{
-		if (keys == null)
+		switch (compression)
 		{
-			return data;
+			case CompressionType.BZ2:
+				return bzip2Decompressor;
+			case CompressionType.GZ:
+				return gzipDecompressor;
+			default:
+				throw new IllegalArgumentException("Unknown decompression type");
 		}
+	}
 
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
+	/**
+	 * Replace the decompressor used for a compression type, eg. to plug in a faster bzip2 decoder.
+	 *
+	 * @param compression
+	 * @param decompressor
+	 */
+	public static void setDecompressor(int compression, Decompressor decompressor)
+	{
+		switch (compression)
+		{
+			case CompressionType.BZ2:
+				bzip2Decompressor = decompressor;
+				break;
+			case CompressionType.GZ:
+				gzipDecompressor = decompressor;
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown decompression type");
+		}
 	}
 
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
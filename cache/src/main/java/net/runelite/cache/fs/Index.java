@@ -25,7 +25,9 @@
 package net.runelite.cache.fs;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import net.runelite.cache.index.ArchiveData;
 import net.runelite.cache.index.FileData;
@@ -47,6 +49,11 @@ public class Index
 	private int compression; // compression method of this index's data in 255
 
 	private final List<Archive> archives = new ArrayList<>();
+	private final Map<Integer, Archive> archivesById = new HashMap<>();
+	// an archive with each name hash, and how many archives have it. Lookups of a name hash shared by
+	// several archives scan the archive list, so they return the first in list order.
+	private final Map<Integer, Archive> archivesByName = new HashMap<>();
+	private final Map<Integer, Integer> nameCounts = new HashMap<>();
 
 	public Index(int id)
 	{
@@ -152,31 +159,49 @@ public class Index
 
 	public Archive addArchive(int id)
 	{
+		if (archivesById.containsKey(id))
+		{
+			throw new IllegalArgumentException("archive " + id + " already exists");
+		}
+
 		Archive archive = new Archive(this, id);
 		this.archives.add(archive);
+		archivesById.put(id, archive);
+		addName(archive);
 		return archive;
 	}
 
 	public Archive getArchive(int id)
 	{
-		for (Archive a : archives)
-		{
-			if (a.getArchiveId() == id)
-			{
-				return a;
-			}
-		}
-		return null;
+		return archivesById.get(id);
 	}
 
 	public boolean removeArchive(Archive archive)
 	{
-		return archives.remove(archive);
+		if (!archives.remove(archive))
+		{
+			return false;
+		}
+
+		archivesById.remove(archive.getArchiveId(), archive);
+		removeName(archive, archive.getNameHash());
+		return true;
 	}
 
 	public Archive findArchiveByName(String name)
 	{
 		int hash = Djb2.hash(name);
+		Integer count = nameCounts.get(hash);
+		if (count == null)
+		{
+			return null;
+		}
+
+		if (count == 1)
+		{
+			return archivesByName.get(hash);
+		}
+
 		for (Archive a : archives)
 		{
 			if (a.getNameHash() == hash)
@@ -187,6 +212,49 @@ public class Index
 		return null;
 	}
 
+	void archiveNameChanged(Archive archive, int oldNameHash)
+	{
+		removeName(archive, oldNameHash);
+		addName(archive);
+	}
+
+	private void addName(Archive archive)
+	{
+		int hash = archive.getNameHash();
+		nameCounts.merge(hash, 1, Integer::sum);
+		archivesByName.putIfAbsent(hash, archive);
+	}
+
+	private void removeName(Archive archive, int hash)
+	{
+		Integer count = nameCounts.get(hash);
+		if (count == null)
+		{
+			return;
+		}
+
+		if (count == 1)
+		{
+			nameCounts.remove(hash);
+			archivesByName.remove(hash);
+			return;
+		}
+
+		nameCounts.put(hash, count - 1);
+		if (archivesByName.get(hash) == archive)
+		{
+			// map one of the other archives with this name hash
+			for (Archive a : archives)
+			{
+				if (a != archive && a.getNameHash() == hash)
+				{
+					archivesByName.put(hash, a);
+					break;
+				}
+			}
+		}
+	}
+
 	public IndexData toIndexData()
 	{
 		IndexData data = new IndexData();
@@ -25,6 +25,7 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
 
 public interface Storage extends AutoCloseable
 {
@@ -35,6 +36,19 @@ public interface Storage extends AutoCloseable
 
 	void load(Store store) throws IOException;
 
+	/**
+	 * Load the store, using the given pool if the storage supports loading
+	 * indexes concurrently
+	 *
+	 * @param store
+	 * @param pool
+	 * @throws IOException
+	 */
+	default void load(Store store, ForkJoinPool pool) throws IOException
+	{
+		load(store);
+	}
+
 	void save(Store store) throws IOException;
 
 	byte[] load(int index, int archive) throws IOException;
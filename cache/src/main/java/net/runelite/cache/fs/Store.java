@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
 import org.slf4j.Logger;
@@ -120,6 +121,11 @@ public final class Store implements Closeable
 		storage.load(this);
 	}
 
+	public void load(ForkJoinPool pool) throws IOException
+	{
+		storage.load(this, pool);
+	}
+
 	public void save() throws IOException
 	{
 		storage.save(this);
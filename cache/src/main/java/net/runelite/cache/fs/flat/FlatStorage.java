@@ -24,17 +24,29 @@
  */
 package net.runelite.cache.fs.flat;
 
-import java.io.BufferedReader;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
+import com.google.common.io.ByteStreams;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -49,13 +61,47 @@ import net.runelite.cache.index.FileData;
 /**
  * A Storage that stores the cache as a series of flat files, designed
  * to be git revisioned.
+ * <p>
+ * When backed by a directory, archive contents are not kept in memory. Loading
+ * only records where each archive's contents are in its file, and they are read
+ * and decoded when the archive is loaded. Saving only rewrites files whose
+ * contents have changed.
  */
 public class FlatStorage implements Storage
 {
 	protected static final String EXTENSION = ".flatcache";
 
+	private static final byte[] PROTOCOL = ascii("protocol");
+	private static final byte[] REVISION = ascii("revision");
+	private static final byte[] COMPRESSION = ascii("compression");
+	private static final byte[] CRC = ascii("crc");
+	private static final byte[] NAMED = ascii("named");
+	private static final byte[] ID = ascii("id");
+	private static final byte[] NAMEHASH = ascii("namehash");
+	private static final byte[] CONTENTS = ascii("contents");
+	private static final byte[] FILE = ascii("file");
+	private static final byte[] TRUE = ascii("true");
+
 	private final File directory;
+	// contents which have been stored, or were read eagerly
 	private final Map<Long, byte[]> data = new HashMap<>();
+	// location of the contents of each archive in its index's file
+	private final Map<Long, Contents> contents = new HashMap<>();
+	private final Map<Integer, FileChannel> channels = new HashMap<>();
+	// hash of each index's file as of the last load or save
+	private final Map<Integer, HashCode> fileHashes = new HashMap<>();
+
+	private static class Contents
+	{
+		private final long offset;
+		private final int length;
+
+		private Contents(long offset, int length)
+		{
+			this.offset = offset;
+			this.length = length;
+		}
+	}
 
 	public FlatStorage(File directory) throws IOException
 	{
@@ -77,11 +123,53 @@ public class FlatStorage implements Storage
 		return new FileOutputStream(new File(directory, filename));
 	}
 
+	/**
+	 * Replace a file with a temporary file written with {@link #openWriter(String)}
+	 *
+	 * @param tempFilename
+	 * @param filename
+	 * @throws IOException
+	 */
+	protected void replace(String tempFilename, String filename) throws IOException
+	{
+		Path source = new File(directory, tempFilename).toPath();
+		Path target = new File(directory, filename).toPath();
+		try
+		{
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	protected void delete(String filename) throws IOException
+	{
+		Files.deleteIfExists(new File(directory, filename).toPath());
+	}
+
 	protected String[] listFlatcacheFiles() throws IOException
 	{
 		return directory.list((dir, name) -> name.endsWith(EXTENSION));
 	}
 
+	/**
+	 * Open a channel to read archive contents from on demand
+	 *
+	 * @param filename
+	 * @return the channel, or null if contents must be read when the file is loaded
+	 * @throws IOException
+	 */
+	protected FileChannel openChannel(String filename) throws IOException
+	{
+		if (directory == null)
+		{
+			return null;
+		}
+		return FileChannel.open(new File(directory, filename).toPath(), StandardOpenOption.READ);
+	}
+
 	@Override
 	public void init(Store store) throws IOException
 	{
@@ -96,6 +184,11 @@ public class FlatStorage implements Storage
 	@Override
 	public void close() throws IOException
 	{
+		for (FileChannel channel : channels.values())
+		{
+			channel.close();
+		}
+		channels.clear();
 	}
 
 	@Override
@@ -103,104 +196,156 @@ public class FlatStorage implements Storage
 	{
 		for (Index idx : store.getIndexes())
 		{
-			String file = idx.getId() + EXTENSION;
-			try (BufferedReader br = new BufferedReader(new InputStreamReader(openReader(file), StandardCharsets.UTF_8)))
+			loadIndex(idx);
+		}
+	}
+
+	private void loadIndex(Index idx) throws IOException
+	{
+		String file = idx.getId() + EXTENSION;
+		FileChannel channel = openChannel(file);
+		if (channel != null)
+		{
+			FileChannel old = channels.put(idx.getId(), channel);
+			if (old != null)
+			{
+				old.close();
+			}
+		}
+
+		try (LineReader reader = new LineReader(openReader(file)))
+		{
+			Archive archive = null;
+			List<FileData> fileData = null;
+			while (reader.readLine(channel != null))
 			{
-				int lineNo = 0;
-				Archive archive = null;
-				List<FileData> fileData = null;
-				for (String line = br.readLine(); line != null; line = br.readLine())
+				try
 				{
-					lineNo++;
+					byte[] line = reader.line;
+					int lidx = reader.indexOf('=', 0);
+					if (lidx == -1)
+					{
+						throw new IOException("missing '='");
+					}
 
-					try
+					int vstart = lidx + 1;
+					int vend = reader.length;
+					if (vend > vstart && line[vend - 1] == '\r')
 					{
-						int lidx = line.indexOf('=');
-						String key = line.substring(0, lidx);
-						String value = line.substring(lidx + 1);
+						--vend;
+					}
 
-						if ("file".equals(key))
+					if (matches(line, lidx, FILE))
+					{
+						if (fileData == null)
 						{
-							if (fileData == null)
-							{
-								fileData = new ArrayList<>();
-							}
+							fileData = new ArrayList<>();
+						}
 
-							int vidx = value.indexOf('=');
-							FileData fd = new FileData();
-							fd.setId(Integer.parseInt(value.substring(0, vidx)));
-							fd.setNameHash(Integer.parseInt(value.substring(vidx + 1)));
-							fileData.add(fd);
+						int vidx = reader.indexOf('=', vstart);
+						if (vidx == -1)
+						{
+							throw new IOException("missing file name hash");
+						}
+
+						FileData fd = new FileData();
+						fd.setId(parseInt(line, vstart, vidx));
+						fd.setNameHash(parseInt(line, vidx + 1, vend));
+						fileData.add(fd);
+						continue;
+					}
+					else if (fileData != null)
+					{
+						archive.setFileData(fileData.toArray(new FileData[0]));
+						fileData = null;
+					}
+
+					if (matches(line, lidx, ID))
+					{
+						archive = idx.addArchive(parseInt(line, vstart, vend));
+						continue;
+					}
+
+					if (archive == null)
+					{
+						if (matches(line, lidx, PROTOCOL))
+						{
+							idx.setProtocol(parseInt(line, vstart, vend));
 							continue;
 						}
-						else if (fileData != null)
+						else if (matches(line, lidx, REVISION))
 						{
-							archive.setFileData(fileData.toArray(new FileData[0]));
-							fileData = null;
+							idx.setRevision(parseInt(line, vstart, vend));
+							continue;
 						}
-
-						if ("id".equals(key))
+						else if (matches(line, lidx, COMPRESSION))
 						{
-							archive = idx.addArchive(Integer.parseInt(value));
+							idx.setCompression(parseInt(line, vstart, vend));
 							continue;
 						}
-
-						if (archive == null)
+						else if (matches(line, lidx, CRC))
 						{
-							switch (key)
-							{
-								case "protocol":
-									idx.setProtocol(Integer.parseInt(value));
-									continue;
-								case "revision":
-									idx.setRevision(Integer.parseInt(value));
-									continue;
-								case "compression":
-									idx.setCompression(Integer.parseInt(value));
-									continue;
-								case "crc":
-									idx.setCrc(Integer.parseInt(value));
-									continue;
-								case "named":
-									idx.setNamed(Boolean.parseBoolean(value));
-									continue;
-							}
+							idx.setCrc(parseInt(line, vstart, vend));
+							continue;
 						}
-						else
+						else if (matches(line, lidx, NAMED))
 						{
-							switch (key)
-							{
-								case "namehash":
-									archive.setNameHash(Integer.parseInt(value));
-									continue;
-								case "revision":
-									archive.setRevision(Integer.parseInt(value));
-									continue;
-								case "crc":
-									archive.setCrc(Integer.parseInt(value));
-									continue;
-								case "compression":
-									archive.setCompression(Integer.parseInt(value));
-									continue;
-								case "contents":
-									data.put((long) idx.getId() << 32 | archive.getArchiveId(), Base64.getDecoder().decode(value));
-									continue;
-							}
+							idx.setNamed(vend - vstart == TRUE.length && matches(line, vstart, vend, TRUE));
+							continue;
 						}
-						throw new IOException("unknown key: \"" + key + "\"");
 					}
-					catch (Exception e)
+					else
 					{
-						throw new IOException("error reading flatcache at " + file + ":" + lineNo, e);
+						if (matches(line, lidx, NAMEHASH))
+						{
+							archive.setNameHash(parseInt(line, vstart, vend));
+							continue;
+						}
+						else if (matches(line, lidx, REVISION))
+						{
+							archive.setRevision(parseInt(line, vstart, vend));
+							continue;
+						}
+						else if (matches(line, lidx, CRC))
+						{
+							archive.setCrc(parseInt(line, vstart, vend));
+							continue;
+						}
+						else if (matches(line, lidx, COMPRESSION))
+						{
+							archive.setCompression(parseInt(line, vstart, vend));
+							continue;
+						}
+						else if (matches(line, lidx, CONTENTS))
+						{
+							long key = (long) idx.getId() << 32 | archive.getArchiveId();
+							if (reader.skipped)
+							{
+								contents.put(key, new Contents(reader.skippedOffset, reader.skippedLength));
+								data.remove(key);
+							}
+							else
+							{
+								data.put(key, Base64.getDecoder().decode(Arrays.copyOfRange(line, vstart, vend)));
+							}
+							continue;
+						}
 					}
+					throw new IOException("unknown key: \"" + new String(line, 0, lidx, StandardCharsets.UTF_8) + "\"");
 				}
-
-				if (fileData != null)
+				catch (Exception e)
 				{
-					archive.setFileData(fileData.toArray(new FileData[0]));
-					fileData = null;
+					throw new IOException("error reading flatcache at " + file + ":" + reader.lineNo, e);
 				}
 			}
+
+			if (fileData != null)
+			{
+				archive.setFileData(fileData.toArray(new FileData[0]));
+				fileData = null;
+			}
+
+			fileHashes.put(idx.getId(), reader.hasher.hash());
 		}
 	}
 
@@ -211,44 +356,149 @@ public class FlatStorage implements Storage
 		for (Index idx : store.getIndexes())
 		{
 			String file = idx.getId() + EXTENSION;
-			try (PrintStream br = new PrintStream(openWriter(file), false, StandardCharsets.UTF_8.name()))
+			Map<Long, Contents> indexContents = new HashMap<>();
+
+			// hash the file first, so only indexes which have changed are written
+			HashCode hash;
+			try (Output out = new Output(ByteStreams.nullOutputStream()))
+			{
+				writeIndex(store, idx, out, indexContents);
+				hash = out.hash();
+			}
+
+			if (hash.equals(fileHashes.get(idx.getId())))
 			{
-				br.printf("protocol=%d\n", idx.getProtocol());
-				br.printf("revision=%d\n", idx.getRevision());
-				br.printf("compression=%d\n", idx.getCompression());
-				br.printf("crc=%d\n", idx.getCrc());
-				br.printf("named=%b\n", idx.isNamed());
-
-				idx.getArchives().sort(Comparator.comparingInt(Archive::getArchiveId));
-				for (Archive archive : idx.getArchives())
+				continue;
+			}
+
+			if (directory == null)
+			{
+				// there is nowhere to stage the file, so write it in place
+				try (Output out = new Output(openWriter(file)))
 				{
-					br.printf("id=%d\n", archive.getArchiveId());
-					br.printf("namehash=%d\n", archive.getNameHash());
-					br.printf("revision=%d\n", archive.getRevision());
-					br.printf("crc=%d\n", archive.getCrc());
+					writeIndex(store, idx, out, indexContents);
+				}
+				fileHashes.put(idx.getId(), hash);
+				continue;
+			}
 
-					byte[] contents = store.getStorage().loadArchive(archive);
-					if (contents != null)
-					{
-						br.append("contents=");
-						br.write(Base64.getEncoder().encode(contents));
-						br.append("\n");
-					}
+			// write the file to a temporary file next to it, which then replaces it
+			String tempFile = file + ".tmp";
+			try
+			{
+				try (Output out = new Output(openWriter(tempFile)))
+				{
+					indexContents.clear();
+					writeIndex(store, idx, out, indexContents);
+				}
+				replace(tempFile, file);
+			}
+			catch (IOException ex)
+			{
+				try
+				{
+					delete(tempFile);
+				}
+				catch (IOException ex2)
+				{
+					ex.addSuppressed(ex2);
+				}
+				throw ex;
+			}
+			fileHashes.put(idx.getId(), hash);
 
-					br.printf("compression=%d\n", archive.getCompression());
-					for (FileData fd : archive.getFileData())
-					{
-						br.printf("file=%d=%d\n", fd.getId(), fd.getNameHash());
-					}
+			// the old channel still reads the replaced file, so it is only closed once the replace has succeeded
+			FileChannel channel = channels.remove(idx.getId());
+			if (channel != null)
+			{
+				channel.close();
+			}
+
+			if (channel != null || store.getStorage() == this)
+			{
+				channel = openChannel(file);
+				if (channel != null)
+				{
+					channels.put(idx.getId(), channel);
+
+					// the file has been rewritten, so the contents are now read from the new offsets
+					contents.keySet().removeIf(k -> (int) (k >>> 32) == idx.getId());
+					contents.putAll(indexContents);
+					data.keySet().removeAll(indexContents.keySet());
+				}
+			}
+		}
+	}
+
+	private void writeIndex(Store store, Index idx, Output out, Map<Long, Contents> indexContents) throws IOException
+	{
+		out.writeLine(PROTOCOL, idx.getProtocol());
+		out.writeLine(REVISION, idx.getRevision());
+		out.writeLine(COMPRESSION, idx.getCompression());
+		out.writeLine(CRC, idx.getCrc());
+		out.writeLine(NAMED, ascii(Boolean.toString(idx.isNamed())));
+
+		idx.getArchives().sort(Comparator.comparingInt(Archive::getArchiveId));
+		for (Archive archive : idx.getArchives())
+		{
+			out.writeLine(ID, archive.getArchiveId());
+			out.writeLine(NAMEHASH, archive.getNameHash());
+			out.writeLine(REVISION, archive.getRevision());
+			out.writeLine(CRC, archive.getCrc());
+
+			long key = (long) idx.getId() << 32 | archive.getArchiveId();
+			byte[] encoded = null;
+			if (store.getStorage() == this && !data.containsKey(key) && contents.containsKey(key))
+			{
+				// unchanged since it was loaded, copy it without decoding
+				encoded = readEncoded(idx.getId(), contents.get(key));
+			}
+			else
+			{
+				byte[] archiveContents = store.getStorage().loadArchive(archive);
+				if (archiveContents != null)
+				{
+					encoded = Base64.getEncoder().encode(archiveContents);
 				}
 			}
+
+			if (encoded != null)
+			{
+				out.writeKey(CONTENTS);
+				indexContents.put(key, new Contents(out.size(), encoded.length));
+				out.write(encoded, 0, encoded.length);
+				out.write('\n');
+			}
+
+			out.writeLine(COMPRESSION, archive.getCompression());
+			for (FileData fd : archive.getFileData())
+			{
+				out.writeKey(FILE);
+				out.writeInt(fd.getId());
+				out.write('=');
+				out.writeInt(fd.getNameHash());
+				out.write('\n');
+			}
 		}
 	}
 
 	@Override
-	public byte[] load(int index, int archive)
+	public byte[] load(int index, int archive) throws IOException
 	{
-		return data.get((long) index << 32 | archive);
+		long key = (long) index << 32 | archive;
+		byte[] bytes = data.get(key);
+		if (bytes != null)
+		{
+			return bytes;
+		}
+
+		Contents c = contents.get(key);
+		if (c == null)
+		{
+			return null;
+		}
+
+		return Base64.getDecoder().decode(readEncoded(index, c));
 	}
 
 	@Override
@@ -256,4 +506,263 @@ public class FlatStorage implements Storage
 	{
 		data.put((long) index << 32 | archive, bytes);
 	}
+
+	private byte[] readEncoded(int index, Contents c) throws IOException
+	{
+		FileChannel channel = channels.get(index);
+		ByteBuffer buf = ByteBuffer.allocate(c.length);
+		while (buf.hasRemaining())
+		{
+			if (channel.read(buf, c.offset + buf.position()) == -1)
+			{
+				throw new IOException("unexpected end of flatcache " + index + EXTENSION);
+			}
+		}
+
+		byte[] encoded = buf.array();
+		if (encoded.length > 0 && encoded[encoded.length - 1] == '\r')
+		{
+			encoded = Arrays.copyOf(encoded, encoded.length - 1);
+		}
+		return encoded;
+	}
+
+	private static byte[] ascii(String s)
+	{
+		return s.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private static boolean matches(byte[] line, int keyLength, byte[] key)
+	{
+		return keyLength == key.length && matches(line, 0, keyLength, key);
+	}
+
+	private static boolean matches(byte[] line, int start, int end, byte[] key)
+	{
+		for (int i = start; i < end; ++i)
+		{
+			if (line[i] != key[i - start])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int parseInt(byte[] b, int start, int end)
+	{
+		boolean negative = start < end && b[start] == '-';
+		int i = negative ? start + 1 : start;
+		if (i == end || end - i > 10)
+		{
+			throw new NumberFormatException(new String(b, start, end - start, StandardCharsets.US_ASCII));
+		}
+
+		long value = 0;
+		for (; i < end; ++i)
+		{
+			int digit = b[i] - '0';
+			if (digit < 0 || digit > 9)
+			{
+				throw new NumberFormatException(new String(b, start, end - start, StandardCharsets.US_ASCII));
+			}
+			value = value * 10 + digit;
+		}
+
+		value = negative ? -value : value;
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+		{
+			throw new NumberFormatException(new String(b, start, end - start, StandardCharsets.US_ASCII));
+		}
+		return (int) value;
+	}
+
+	/**
+	 * Reads lines as bytes, optionally skipping over the value of contents
+	 * lines and recording where they are instead.
+	 */
+	private static class LineReader implements AutoCloseable
+	{
+		private final InputStream in;
+		private final byte[] buf = new byte[65536];
+		private final Hasher hasher = Hashing.murmur3_128().newHasher();
+		private int pos;
+		private int limit;
+		// file offset of buf[0]
+		private long bufOffset;
+
+		private byte[] line = new byte[256];
+		private int length;
+		private int lineNo;
+
+		private boolean skipped;
+		private long skippedOffset;
+		private int skippedLength;
+
+		private LineReader(InputStream in)
+		{
+			this.in = in;
+		}
+
+		private boolean fill() throws IOException
+		{
+			bufOffset += limit;
+			pos = 0;
+			limit = Math.max(in.read(buf), 0);
+			hasher.putBytes(buf, 0, limit);
+			return limit > 0;
+		}
+
+		private boolean readLine(boolean skipContents) throws IOException
+		{
+			length = 0;
+			skipped = false;
+
+			for (;;)
+			{
+				if (pos == limit && !fill())
+				{
+					if (length > 0)
+					{
+						++lineNo;
+						return true;
+					}
+					return false;
+				}
+
+				byte b = buf[pos++];
+				if (b == '\n')
+				{
+					++lineNo;
+					return true;
+				}
+
+				if (length == line.length)
+				{
+					line = Arrays.copyOf(line, line.length * 2);
+				}
+				line[length++] = b;
+
+				if (skipContents && length == CONTENTS.length + 1 && b == '=' && matches(line, CONTENTS.length, CONTENTS))
+				{
+					skipped = true;
+					skippedOffset = bufOffset + pos;
+					skipLine();
+					++lineNo;
+					return true;
+				}
+			}
+		}
+
+		private void skipLine() throws IOException
+		{
+			for (;;)
+			{
+				for (int i = pos; i < limit; ++i)
+				{
+					if (buf[i] == '\n')
+					{
+						skippedLength = (int) (bufOffset + i - skippedOffset);
+						pos = i + 1;
+						return;
+					}
+				}
+
+				pos = limit;
+				if (!fill())
+				{
+					skippedLength = (int) (bufOffset - skippedOffset);
+					return;
+				}
+			}
+		}
+
+		private int indexOf(char c, int from)
+		{
+			for (int i = from; i < length; ++i)
+			{
+				if (line[i] == c)
+				{
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			in.close();
+		}
+	}
+
+	/**
+	 * Buffers, hashes and counts what is written to a flatcache file
+	 */
+	private static class Output extends FilterOutputStream
+	{
+		private final HashingOutputStream hashing;
+		private long size;
+
+		private Output(OutputStream out)
+		{
+			this(new HashingOutputStream(Hashing.murmur3_128(), new BufferedOutputStream(out, 65536)));
+		}
+
+		private Output(HashingOutputStream hashing)
+		{
+			super(hashing);
+			this.hashing = hashing;
+		}
+
+		private long size()
+		{
+			return size;
+		}
+
+		private HashCode hash()
+		{
+			return hashing.hash();
+		}
+
+		@Override
+		public void write(int b) throws IOException
+		{
+			out.write(b);
+			++size;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException
+		{
+			out.write(b, off, len);
+			size += len;
+		}
+
+		private void writeKey(byte[] key) throws IOException
+		{
+			write(key, 0, key.length);
+			write('=');
+		}
+
+		private void writeInt(int i) throws IOException
+		{
+			byte[] b = ascii(Integer.toString(i));
+			write(b, 0, b.length);
+		}
+
+		private void writeLine(byte[] key, int value) throws IOException
+		{
+			writeKey(key);
+			writeInt(value);
+			write('\n');
+		}
+
+		private void writeLine(byte[] key, byte[] value) throws IOException
+		{
+			writeKey(key);
+			write(value, 0, value.length);
+			write('\n');
+		}
+	}
 }
@@ -30,6 +30,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,25 +39,98 @@ public class DataFile implements Closeable
 	private static final Logger logger = LoggerFactory.getLogger(DataFile.class);
 
 	private static final int SECTOR_SIZE = 520;
+	// segments are a whole number of sectors so a sector never spans two mappings
+	private static final long SEGMENT_SIZE = (Integer.MAX_VALUE / SECTOR_SIZE) * (long) SECTOR_SIZE;
 
 	private final RandomAccessFile dat;
+	private final boolean mapped;
+	private volatile Mapping mapping;
+
+	private static class Mapping
+	{
+		private final ByteBuffer[] segments;
+		private final long length;
+
+		private Mapping(ByteBuffer[] segments, long length)
+		{
+			this.segments = segments;
+			this.length = length;
+		}
+	}
 
 	public DataFile(File file) throws FileNotFoundException
+	{
+		this(file, false);
+	}
+
+	/**
+	 * @param file data file
+	 * @param mapped whether to read through a memory mapping of the file
+	 * instead of seeking. Mapped reads do not lock and may be done from
+	 * many threads at once. Writes always go through the file.
+	 * @throws FileNotFoundException
+	 */
+	public DataFile(File file, boolean mapped) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
+		this.mapped = mapped;
 	}
 
 	@Override
-	public void close() throws IOException
+	public synchronized void close() throws IOException
 	{
+		mapping = null;
 		dat.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
+		mapping = null;
 		dat.setLength(0L);
 	}
 
+	/**
+	 * Get a mapping of the data file which covers at least {@code end} bytes,
+	 * remapping if the file has grown since it was last mapped.
+	 *
+	 * @param end
+	 * @return
+	 * @throws IOException
+	 */
+	private Mapping map(long end) throws IOException
+	{
+		Mapping m = mapping;
+		if (m != null && m.length >= end)
+		{
+			return m;
+		}
+
+		synchronized (this)
+		{
+			m = mapping;
+			long length = dat.length();
+			if (m != null && (m.length >= end || m.length == length))
+			{
+				return m;
+			}
+
+			FileChannel channel = dat.getChannel();
+			int count = (int) ((length + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+			ByteBuffer[] segments = new ByteBuffer[count];
+			for (int i = 0; i < count; ++i)
+			{
+				long position = i * SEGMENT_SIZE;
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, length - position));
+			}
+
+			logger.debug("Mapped {} bytes of data file in {} segments", length, count);
+
+			m = new Mapping(segments, length);
+			mapping = m;
+			return m;
+		}
+	}
+
 	/**
 	 *
 	 * @param indexId expected index of archive of contents being read
@@ -66,7 +140,17 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		if (mapped)
+		{
+			return readMapped(indexId, archiveId, sector, size);
+		}
+
+		return readFile(indexId, archiveId, sector, size);
+	}
+
+	private synchronized byte[] readFile(int indexId, int archiveId, int sector, int size) throws IOException
 	{
 		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
 		{
@@ -169,6 +253,93 @@ public class DataFile implements Closeable
 		return buffer.array();
 	}
 
+	private byte[] readMapped(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		Mapping m = map((long) SECTOR_SIZE * sector);
+		if (sector <= 0L || m.length / SECTOR_SIZE < (long) sector)
+		{
+			logger.warn("bad read, dat length {}, requested sector {}", m.length, sector);
+			return null;
+		}
+
+		final int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		byte[] data = new byte[size];
+
+		for (int part = 0, readBytesCount = 0, nextSector;
+			size > readBytesCount;
+			sector = nextSector)
+		{
+			if (sector == 0)
+			{
+				logger.warn("Unexpected end of file");
+				return null;
+			}
+
+			int dataBlockSize = Math.min(size - readBytesCount, SECTOR_SIZE - headerSize);
+			long position = (long) SECTOR_SIZE * sector;
+			if (position + headerSize + dataBlockSize > m.length)
+			{
+				m = map(position + headerSize + dataBlockSize);
+				if (position + headerSize + dataBlockSize > m.length)
+				{
+					logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+					return null;
+				}
+			}
+
+			ByteBuffer segment = m.segments[(int) (position / SEGMENT_SIZE)];
+			int offset = (int) (position % SEGMENT_SIZE);
+
+			int currentIndex;
+			int currentPart;
+			int currentArchive;
+			if (headerSize == 10)
+			{
+				currentArchive = segment.getInt(offset);
+				currentPart = segment.getShort(offset + 4) & 0xFFFF;
+				nextSector = ((segment.get(offset + 6) & 0xFF) << 16)
+					| ((segment.get(offset + 7) & 0xFF) << 8)
+					| (segment.get(offset + 8) & 0xFF);
+				currentIndex = segment.get(offset + 9) & 0xFF;
+			}
+			else
+			{
+				currentArchive = segment.getShort(offset) & 0xFFFF;
+				currentPart = segment.getShort(offset + 2) & 0xFFFF;
+				nextSector = ((segment.get(offset + 4) & 0xFF) << 16)
+					| ((segment.get(offset + 5) & 0xFF) << 8)
+					| (segment.get(offset + 6) & 0xFF);
+				currentIndex = segment.get(offset + 7) & 0xFF;
+			}
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				logger.warn("data mismatch {} != {}, {} != {}, {} != {}",
+					archiveId, currentArchive,
+					part, currentPart,
+					indexId, currentIndex);
+				return null;
+			}
+
+			if (nextSector < 0 || m.length / SECTOR_SIZE < (long) nextSector)
+			{
+				logger.warn("Invalid next sector");
+				return null;
+			}
+
+			// the mapped buffers are shared between threads, so only use absolute
+			// accesses on them and position a private view for the bulk copy
+			ByteBuffer view = segment.duplicate();
+			view.position(offset + headerSize);
+			view.get(data, readBytesCount, dataBlockSize);
+			readBytesCount += dataBlockSize;
+
+			++part;
+		}
+
+		return data;
+	}
+
 	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
 		int sector;
@@ -29,6 +29,10 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import net.runelite.cache.CacheLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
@@ -47,17 +51,31 @@ public class DiskStorage implements Storage
 	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
 
 	private final File folder;
+	private final boolean mapped;
 
 	private final DataFile data;
 	private final IndexFile index255;
-	private final List<IndexFile> indexFiles = new ArrayList<>();
+	private final List<IndexFile> indexFiles = new CopyOnWriteArrayList<>();
 
 	public DiskStorage(File folder) throws IOException
+	{
+		this(folder, false);
+	}
+
+	/**
+	 * @param folder cache folder
+	 * @param mapped whether to read the data and index files through memory
+	 * mappings. This allows {@link #load(int, int)} to be called concurrently
+	 * without contending on a lock.
+	 * @throws IOException
+	 */
+	public DiskStorage(File folder, boolean mapped) throws IOException
 	{
 		this.folder = folder;
+		this.mapped = mapped;
 
-		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
-		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT), mapped);
+		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"), mapped);
 	}
 
 	@Override
@@ -90,6 +108,26 @@ public class DiskStorage implements Storage
 			return index255;
 		}
 
+		IndexFile indexFile = findIndex(i);
+		if (indexFile != null)
+		{
+			return indexFile;
+		}
+
+		synchronized (indexFiles)
+		{
+			indexFile = findIndex(i);
+			if (indexFile == null)
+			{
+				indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i), mapped);
+				indexFiles.add(indexFile);
+			}
+			return indexFile;
+		}
+	}
+
+	private IndexFile findIndex(int i)
+	{
 		for (IndexFile indexFile : indexFiles)
 		{
 			if (indexFile.getIndexFileId() == i)
@@ -97,10 +135,7 @@ public class DiskStorage implements Storage
 				return indexFile;
 			}
 		}
-
-		IndexFile indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i));
-		indexFiles.add(indexFile);
-		return indexFile;
+		return null;
 	}
 
 	@Override
@@ -112,6 +147,25 @@ public class DiskStorage implements Storage
 		}
 	}
 
+	@Override
+	public void load(Store store, ForkJoinPool pool) throws IOException
+	{
+		List<ForkJoinTask<?>> tasks = new ArrayList<>();
+		for (Index index : store.getIndexes())
+		{
+			tasks.add(pool.submit(() ->
+			{
+				loadIndex(index);
+				return null;
+			}));
+		}
+
+		for (ForkJoinTask<?> task : tasks)
+		{
+			CacheLoader.join(task);
+		}
+	}
+
 	public byte[] readIndex(int indexId) throws IOException
 	{
 		IndexEntry entry = index255.read(indexId);
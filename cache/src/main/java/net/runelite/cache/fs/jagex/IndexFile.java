@@ -29,6 +29,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,22 +45,39 @@ public class IndexFile implements Closeable
 	private final File file;
 	private final RandomAccessFile idx;
 	private final byte[] buffer = new byte[INDEX_ENTRY_LEN];
+	private final boolean mapped;
+	private volatile ByteBuffer mapping;
 
 	public IndexFile(int indexFileId, File file) throws FileNotFoundException
+	{
+		this(indexFileId, file, false);
+	}
+
+	/**
+	 * @param indexFileId
+	 * @param file index file
+	 * @param mapped whether to read entries through a memory mapping of the
+	 * file. Mapped reads do not lock and may be done from many threads at once.
+	 * @throws FileNotFoundException
+	 */
+	public IndexFile(int indexFileId, File file, boolean mapped) throws FileNotFoundException
 	{
 		this.indexFileId = indexFileId;
 		this.file = file;
 		this.idx = new RandomAccessFile(file, "rw");
+		this.mapped = mapped;
 	}
 
 	@Override
-	public void close() throws IOException
+	public synchronized void close() throws IOException
 	{
+		mapping = null;
 		idx.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
+		mapping = null;
 		idx.setLength(0L);
 	}
 
@@ -109,7 +128,17 @@ public class IndexFile implements Closeable
 		idx.write(buffer);
 	}
 
-	public synchronized IndexEntry read(int id) throws IOException
+	public IndexEntry read(int id) throws IOException
+	{
+		if (mapped)
+		{
+			return readMapped(id);
+		}
+
+		return readFile(id);
+	}
+
+	private synchronized IndexEntry readFile(int id) throws IOException
 	{
 		idx.seek(id * INDEX_ENTRY_LEN);
 		int i = idx.read(buffer);
@@ -131,6 +160,60 @@ public class IndexFile implements Closeable
 		return new IndexEntry(this, id, sector, length);
 	}
 
+	private IndexEntry readMapped(int id) throws IOException
+	{
+		long position = (long) id * INDEX_ENTRY_LEN;
+		ByteBuffer m = map(position + INDEX_ENTRY_LEN);
+		if (position + INDEX_ENTRY_LEN > m.capacity())
+		{
+			logger.debug("short read for id {} on index {}", id, indexFileId);
+			return null;
+		}
+
+		int offset = (int) position;
+		int length = ((m.get(offset) & 0xFF) << 16) | ((m.get(offset + 1) & 0xFF) << 8) | (m.get(offset + 2) & 0xFF);
+		int sector = ((m.get(offset + 3) & 0xFF) << 16) | ((m.get(offset + 4) & 0xFF) << 8) | (m.get(offset + 5) & 0xFF);
+
+		if (length <= 0 || sector <= 0)
+		{
+			logger.debug("invalid length or sector {}/{}", length, sector);
+			return null;
+		}
+
+		return new IndexEntry(this, id, sector, length);
+	}
+
+	/**
+	 * Get a mapping of the index file which covers at least {@code end} bytes,
+	 * remapping if the file has grown since it was last mapped.
+	 *
+	 * @param end
+	 * @return
+	 * @throws IOException
+	 */
+	private ByteBuffer map(long end) throws IOException
+	{
+		ByteBuffer m = mapping;
+		if (m != null && m.capacity() >= end)
+		{
+			return m;
+		}
+
+		synchronized (this)
+		{
+			m = mapping;
+			long length = idx.length();
+			if (m != null && (m.capacity() >= end || m.capacity() == length))
+			{
+				return m;
+			}
+
+			m = idx.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+			mapping = m;
+			return m;
+		}
+	}
+
 	public synchronized int getIndexCount() throws IOException
 	{
 		return (int) (idx.length() / INDEX_ENTRY_LEN);
@@ -24,12 +24,14 @@
  */
 package net.runelite.cache.util;
 
+import com.google.common.io.ByteStreams;
 import com.sun.jna.Memory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.util.Arrays;
 import static net.runelite.cache.util.LibBZip2.BZ_FINISH_OK;
 import static net.runelite.cache.util.LibBZip2.BZ_OK;
@@ -49,6 +51,9 @@ public class BZip2
 		'1'       // block size
 	};
 
+	// native input and output buffers, reused by each thread
+	private static final ThreadLocal<Memory[]> NATIVE_BUFFERS = ThreadLocal.withInitial(() -> new Memory[2]);
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
 		return USE_NATIVE_BZIP2 ? compressLibBZip2(bytes) : compressApache(bytes);
@@ -128,19 +133,110 @@ public class BZip2
 
 	public static byte[] decompress(byte[] bytes, int len) throws IOException
 	{
-		byte[] data = new byte[len + BZIP_HEADER.length];
-
-		// add header
-		System.arraycopy(BZIP_HEADER, 0, data, 0, BZIP_HEADER.length);
-		System.arraycopy(bytes, 0, data, BZIP_HEADER.length, len);
+		return decompress(bytes, 0, len);
+	}
 
+	public static byte[] decompress(byte[] bytes, int offset, int len) throws IOException
+	{
 		ByteArrayOutputStream os = new ByteArrayOutputStream();
 
-		try (InputStream is = new BZip2CompressorInputStream(new ByteArrayInputStream(data)))
+		// add header
+		InputStream data = new SequenceInputStream(new ByteArrayInputStream(BZIP_HEADER), new ByteArrayInputStream(bytes, offset, len));
+		try (InputStream is = new BZip2CompressorInputStream(data))
 		{
 			IOUtils.copy(is, os);
 		}
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress into a buffer of exactly the decompressed length
+	 *
+	 * @param bytes
+	 * @param offset
+	 * @param len
+	 * @param out
+	 * @throws IOException
+	 */
+	public static void decompress(byte[] bytes, int offset, int len, byte[] out) throws IOException
+	{
+		if (USE_NATIVE_BZIP2)
+		{
+			decompressLibBZip2(bytes, offset, len, out);
+		}
+		else
+		{
+			decompressApache(bytes, offset, len, out);
+		}
+	}
+
+	public static void decompressApache(byte[] bytes, int offset, int len, byte[] out) throws IOException
+	{
+		// add header
+		InputStream data = new SequenceInputStream(new ByteArrayInputStream(BZIP_HEADER), new ByteArrayInputStream(bytes, offset, len));
+		try (InputStream is = new BZip2CompressorInputStream(data))
+		{
+			ByteStreams.readFully(is, out);
+			if (is.read() != -1)
+			{
+				throw new IOException("decompressed data is longer than expected");
+			}
+		}
+	}
+
+	public static void decompressLibBZip2(byte[] bytes, int offset, int len, byte[] out) throws IOException
+	{
+		LibBZip2 libBZip2 = LibBZip2.INSTANCE;
+
+		Memory in = nativeBuffer(0, BZIP_HEADER.length + len);
+		in.write(0, BZIP_HEADER, 0, BZIP_HEADER.length);
+		in.write(BZIP_HEADER.length, bytes, offset, len);
+
+		// one byte of extra space to detect data longer than expected
+		int outsz = out.length + 1;
+		Memory nativeOut = nativeBuffer(1, outsz);
+
+		BzStream stream = new BzStream();
+		stream.next_in = in;
+		stream.avail_in = BZIP_HEADER.length + len;
+		stream.next_out = nativeOut;
+		stream.avail_out = outsz;
+
+		if (libBZip2.BZ2_bzDecompressInit(stream, 0, 0) != BZ_OK)
+		{
+			throw new IOException("BZ2_bzDecompressInit() error");
+		}
+		try
+		{
+			int i = libBZip2.BZ2_bzDecompress(stream);
+			if (i != BZ_STREAM_END)
+			{
+				throw new IOException("BZ2_bzDecompress() error " + i);
+			}
+
+			int wrote = outsz - stream.avail_out;
+			if (wrote != out.length)
+			{
+				throw new IOException("decompressed length " + wrote + " != " + out.length);
+			}
+
+			nativeOut.read(0, out, 0, out.length);
+		}
+		finally
+		{
+			libBZip2.BZ2_bzDecompressEnd(stream);
+		}
+	}
+
+	private static Memory nativeBuffer(int idx, int size)
+	{
+		Memory[] buffers = NATIVE_BUFFERS.get();
+		Memory buffer = buffers[idx];
+		if (buffer == null || buffer.size() < size)
+		{
+			buffer = buffers[idx] = new Memory(Math.max(size, 65536));
+		}
+		return buffer;
+	}
 }
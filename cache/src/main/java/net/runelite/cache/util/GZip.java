@@ -30,8 +30,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.zip.DataFormatException;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
 import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +42,13 @@ public class GZip
 {
 	private static final Logger logger = LoggerFactory.getLogger(GZip.class);
 
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
+	private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
 		InputStream is = new ByteArrayInputStream(bytes);
@@ -54,14 +63,124 @@ public class GZip
 	}
 
 	public static byte[] decompress(byte[] bytes, int len) throws IOException
+	{
+		return decompress(bytes, 0, len);
+	}
+
+	public static byte[] decompress(byte[] bytes, int offset, int len) throws IOException
 	{
 		ByteArrayOutputStream os = new ByteArrayOutputStream();
 
-		try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(bytes, 0, len)))
+		try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(bytes, offset, len)))
 		{
 			IOUtils.copy(is, os);
 		}
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress into a buffer of exactly the decompressed length. This
+	 * inflates directly from the input array with a per-thread
+	 * {@link Inflater}, instead of going through a {@link GZIPInputStream}.
+	 * The trailer length is verified, but the crc is not, as the container
+	 * data is already covered by a crc.
+	 *
+	 * @param bytes
+	 * @param offset
+	 * @param len
+	 * @param out
+	 * @throws IOException
+	 */
+	public static void decompress(byte[] bytes, int offset, int len, byte[] out) throws IOException
+	{
+		int end = offset + len;
+		if (len < 18 || bytes[offset] != (byte) 0x1f || bytes[offset + 1] != (byte) 0x8b || bytes[offset + 2] != 8)
+		{
+			throw new IOException("invalid gzip header");
+		}
+
+		int flags = bytes[offset + 3] & 0xff;
+		int pos = offset + 10;
+		if ((flags & FEXTRA) != 0)
+		{
+			pos += 2 + ((bytes[pos] & 0xff) | (bytes[pos + 1] & 0xff) << 8);
+		}
+		if ((flags & FNAME) != 0)
+		{
+			pos = skipString(bytes, pos, end);
+		}
+		if ((flags & FCOMMENT) != 0)
+		{
+			pos = skipString(bytes, pos, end);
+		}
+		if ((flags & FHCRC) != 0)
+		{
+			pos += 2;
+		}
+		if (pos + 8 > end)
+		{
+			throw new IOException("invalid gzip header");
+		}
+
+		Inflater inflater = INFLATER.get();
+		inflater.reset();
+		inflater.setInput(bytes, pos, end - pos);
+		try
+		{
+			int n = 0;
+			while (n < out.length)
+			{
+				int i = inflater.inflate(out, n, out.length - n);
+				if (i == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary()))
+				{
+					break;
+				}
+				n += i;
+			}
+
+			if (n != out.length)
+			{
+				throw new IOException("decompressed length " + n + " != " + out.length);
+			}
+
+			if (!inflater.finished())
+			{
+				// the end of stream marker may not have been consumed yet
+				if (inflater.inflate(new byte[1]) != 0 || !inflater.finished())
+				{
+					throw new IOException("decompressed data is longer than expected");
+				}
+			}
+		}
+		catch (DataFormatException ex)
+		{
+			throw new IOException(ex);
+		}
+
+		int trailer = end - inflater.getRemaining();
+		if (trailer + 8 > end)
+		{
+			throw new IOException("truncated gzip trailer");
+		}
+
+		int isize = (bytes[trailer + 4] & 0xff) | (bytes[trailer + 5] & 0xff) << 8
+			| (bytes[trailer + 6] & 0xff) << 16 | (bytes[trailer + 7] & 0xff) << 24;
+		if (isize != out.length)
+		{
+			throw new IOException("gzip trailer length " + isize + " != " + out.length);
+		}
+	}
+
+	private static int skipString(byte[] bytes, int pos, int end) throws IOException
+	{
+		while (pos < end)
+		{
+			if (bytes[pos++] == 0)
+			{
+				return pos;
+			}
+		}
+		throw new IOException("invalid gzip header");
+	}
 }
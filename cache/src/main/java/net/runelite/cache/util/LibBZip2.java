@@ -44,4 +44,8 @@ public interface LibBZip2 extends Library
 	int BZ2_bzCompressInit(BzStream stream, int blockSize100k, int verbosity, int workFactor);
 	int BZ2_bzCompress(BzStream stream, int action);
 	int BZ2_bzCompressEnd(BzStream stream);
+
+	int BZ2_bzDecompressInit(BzStream stream, int verbosity, int small);
+	int BZ2_bzDecompress(BzStream stream);
+	int BZ2_bzDecompressEnd(BzStream stream);
 }
\ No newline at end of file
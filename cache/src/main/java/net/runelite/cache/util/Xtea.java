@@ -24,8 +24,10 @@
  */
 package net.runelite.cache.util;
 
-import net.runelite.cache.io.InputStream;
-import net.runelite.cache.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 
 public class Xtea
 {
@@ -33,6 +35,8 @@ public class Xtea
 
 	private static final int ROUNDS = 32;
 
+	private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
 	private final int[] key;
 
 	public Xtea(int[] key)
@@ -42,13 +46,32 @@ public class Xtea
 
 	public byte[] encrypt(byte[] data, int len)
 	{
-		InputStream in = new InputStream(data);
-		OutputStream out = new OutputStream(len);
-		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		byte[] out = Arrays.copyOf(data, data.length);
+		encrypt(out, 0, len);
+		return out;
+	}
+
+	public byte[] decrypt(byte[] data, int len)
+	{
+		byte[] out = Arrays.copyOf(data, data.length);
+		decrypt(out, 0, len);
+		return out;
+	}
+
+	/**
+	 * Encrypt the whole blocks of a slice of an array in place
+	 *
+	 * @param data
+	 * @param offset
+	 * @param length
+	 */
+	public void encrypt(byte[] data, int offset, int length)
+	{
+		int numBlocks = length / 8;
+		for (int block = 0; block < numBlocks; ++block, offset += 8)
 		{
-			int v0 = in.readInt();
-			int v1 = in.readInt();
+			int v0 = (int) INT.get(data, offset);
+			int v1 = (int) INT.get(data, offset + 4);
 			int sum = 0;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -56,22 +79,25 @@ public class Xtea
 				sum += GOLDEN_RATIO;
 				v1 += (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			INT.set(data, offset, v0);
+			INT.set(data, offset + 4, v1);
 		}
-		out.writeBytes(in.getRemaining());
-		return out.flip();
 	}
 
-	public byte[] decrypt(byte[] data, int len)
+	/**
+	 * Decrypt the whole blocks of a slice of an array in place
+	 *
+	 * @param data
+	 * @param offset
+	 * @param length
+	 */
+	public void decrypt(byte[] data, int offset, int length)
 	{
-		InputStream in = new InputStream(data);
-		OutputStream out = new OutputStream(len);
-		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		int numBlocks = length / 8;
+		for (int block = 0; block < numBlocks; ++block, offset += 8)
 		{
-			int v0 = in.readInt();
-			int v1 = in.readInt();
+			int v0 = (int) INT.get(data, offset);
+			int v1 = (int) INT.get(data, offset + 4);
 			int sum = GOLDEN_RATIO * ROUNDS;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -79,10 +105,8 @@ public class Xtea
 				sum -= GOLDEN_RATIO;
 				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			INT.set(data, offset, v0);
+			INT.set(data, offset + 4, v1);
 		}
-		out.writeBytes(in.getRemaining());
-		return out.flip();
 	}
 }
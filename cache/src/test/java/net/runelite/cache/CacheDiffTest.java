@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.Djb2;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheDiffTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testDiff() throws IOException
+	{
+		try (Store from = new Store(StoreLocation.LOCATION);
+			Store to = new Store(StoreLocation.LOCATION))
+		{
+			from.load();
+			to.load();
+
+			CacheDiff diff = CacheDiff.diff(from, to);
+			assertTrue(diff.isEmpty());
+			assertEquals(0, diff.getLoadedArchives());
+
+			// remove both archives of a region, and a script
+			Index maps = to.getIndex(IndexType.MAPS);
+			maps.removeArchive(maps.findArchiveByName("m50_50"));
+			maps.removeArchive(maps.findArchiveByName("l50_50"));
+			maps.setCrc(maps.getCrc() + 1);
+
+			Index scripts = to.getIndex(IndexType.CLIENTSCRIPT);
+			Archive script = scripts.getArchives().get(0);
+			scripts.removeArchive(script);
+			scripts.setCrc(scripts.getCrc() + 1);
+
+			diff = CacheDiff.diff(from, to);
+			assertEquals(2, diff.getChanges().size());
+			assertEquals(0, diff.getLoadedArchives());
+
+			CacheDiff.Changes mapChanges = diff.getChanges().get("maps");
+			assertEquals(1, mapChanges.getRemoved().size());
+			assertEquals(50 << 8 | 50, (int) mapChanges.getRemoved().first());
+			assertTrue(mapChanges.getAdded().isEmpty());
+			assertTrue(mapChanges.getChanged().isEmpty());
+
+			CacheDiff.Changes scriptChanges = diff.getChanges().get("scripts");
+			assertEquals(script.getArchiveId(), (int) scriptChanges.getRemoved().first());
+
+			// reversed
+			diff = CacheDiff.diff(to, from);
+			assertEquals(50 << 8 | 50, (int) diff.getChanges().get("maps").getAdded().first());
+		}
+	}
+
+	@Test
+	public void testConfigDiff() throws IOException
+	{
+		try (Store from = new Store(StoreLocation.LOCATION);
+			Store to = new Store(StoreLocation.LOCATION))
+		{
+			from.load();
+			to.load();
+
+			// an archive crc change with identical contents reports no definition changes
+			Index configs = to.getIndex(IndexType.CONFIGS);
+			Archive items = configs.getArchive(ConfigType.ITEM.getId());
+			items.setCrc(items.getCrc() + 1);
+			configs.setCrc(configs.getCrc() + 1);
+
+			CacheDiff diff = CacheDiff.diff(from, to);
+			assertTrue(diff.isEmpty());
+			assertEquals(2, diff.getLoadedArchives());
+		}
+	}
+
+	@Test
+	public void testRegionDiff() throws IOException
+	{
+		try (Store from = new Store(folder.newFolder());
+			Store to = new Store(folder.newFolder()))
+		{
+			Index fromMaps = from.addIndex(IndexType.MAPS.getNumber());
+			Index toMaps = to.addIndex(IndexType.MAPS.getNumber());
+
+			// a region whose map is unchanged but whose locations were added
+			addArchive(fromMaps, 0, "m50_50", 1);
+			addArchive(toMaps, 0, "m50_50", 1);
+			addArchive(toMaps, 1, "l50_50", 2);
+			// a region whose map is unchanged but whose locations were removed
+			addArchive(fromMaps, 2, "m51_51", 3);
+			addArchive(fromMaps, 3, "l51_51", 4);
+			addArchive(toMaps, 2, "m51_51", 3);
+			// a new region
+			addArchive(toMaps, 4, "m52_52", 5);
+			// an archive which isn't part of a region
+			addArchive(toMaps, 5, "other", 6);
+			toMaps.setCrc(1);
+
+			CacheDiff diff = CacheDiff.diff(from, to);
+			CacheDiff.Changes mapChanges = diff.getChanges().get("maps");
+			assertEquals(2, mapChanges.getChanged().size());
+			assertTrue(mapChanges.getChanged().contains(50 << 8 | 50));
+			assertTrue(mapChanges.getChanged().contains(51 << 8 | 51));
+			assertEquals(1, mapChanges.getAdded().size());
+			assertTrue(mapChanges.getAdded().contains(52 << 8 | 52));
+			assertTrue(mapChanges.getRemoved().isEmpty());
+
+			CacheDiff.Changes otherChanges = diff.getChanges().get("index" + IndexType.MAPS.getNumber());
+			assertEquals(1, otherChanges.getAdded().size());
+			assertTrue(otherChanges.getAdded().contains(5));
+		}
+	}
+
+	private static void addArchive(Index index, int id, String name, int crc)
+	{
+		Archive archive = index.addArchive(id);
+		archive.setNameHash(Djb2.hash(name));
+		archive.setCrc(crc);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.NpcDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Test;
+
+public class CacheLoaderTest
+{
+	@Test
+	public void testParallelLoad() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION);
+			Store parallelStore = new Store(new DiskStorage(StoreLocation.LOCATION, true));
+			CacheLoader loader = new CacheLoader(4))
+		{
+			store.load();
+			loader.load(parallelStore);
+
+			assertEquals(store, parallelStore);
+
+			ItemManager items = new ItemManager(store);
+			NpcManager npcs = new NpcManager(store);
+			ObjectManager objects = new ObjectManager(store);
+			StructManager structs = new StructManager(store);
+			SpriteManager sprites = new SpriteManager(store);
+			items.load();
+			npcs.load();
+			objects.load();
+			structs.load();
+			sprites.load();
+
+			ItemManager parallelItems = new ItemManager(parallelStore);
+			NpcManager parallelNpcs = new NpcManager(parallelStore);
+			ObjectManager parallelObjects = new ObjectManager(parallelStore);
+			StructManager parallelStructs = new StructManager(parallelStore);
+			SpriteManager parallelSprites = new SpriteManager(parallelStore);
+			loader.load(parallelItems::load, parallelNpcs::load, parallelObjects::load, parallelStructs::load, parallelSprites::load);
+
+			Map<Integer, ItemDefinition> itemMap = items.getItems().stream()
+				.collect(Collectors.toMap(i -> i.id, Function.identity()));
+			assertFalse(itemMap.isEmpty());
+			assertEquals(itemMap, parallelItems.getItems().stream()
+				.collect(Collectors.toMap(i -> i.id, Function.identity())));
+
+			Map<Integer, NpcDefinition> npcMap = npcs.getNpcs().stream()
+				.collect(Collectors.toMap(n -> n.id, Function.identity()));
+			assertFalse(npcMap.isEmpty());
+			assertEquals(npcMap, parallelNpcs.getNpcs().stream()
+				.collect(Collectors.toMap(n -> n.id, Function.identity())));
+
+			Map<Integer, ObjectDefinition> objectMap = objects.getObjects().stream()
+				.collect(Collectors.toMap(ObjectDefinition::getId, Function.identity()));
+			assertFalse(objectMap.isEmpty());
+			assertEquals(objectMap, parallelObjects.getObjects().stream()
+				.collect(Collectors.toMap(ObjectDefinition::getId, Function.identity())));
+
+			assertEquals(structs.getStructs(), parallelStructs.getStructs());
+			assertEquals(new ArrayList<>(sprites.getSprites()), new ArrayList<>(parallelSprites.getSprites()));
+		}
+	}
+}
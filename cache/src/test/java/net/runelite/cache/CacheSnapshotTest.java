@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.NpcDefinition;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class CacheSnapshotTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(CacheSnapshotTest.class);
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testSnapshot() throws IOException
+	{
+		File file = new File(folder.getRoot(), "snapshot.bin");
+
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			CacheSnapshot snapshot = CacheSnapshot.load(store, file);
+			assertTrue(file.exists());
+			assertTrue(snapshot.matches(store));
+
+			ItemManager items = new ItemManager(store);
+			items.load();
+			ItemManager snapshotItems = new ItemManager(store);
+			snapshotItems.load(snapshot);
+
+			Map<Integer, ItemDefinition> itemMap = items.getItems().stream()
+				.collect(Collectors.toMap(i -> i.id, Function.identity()));
+			assertFalse(itemMap.isEmpty());
+			assertEquals(itemMap, snapshotItems.getItems().stream()
+				.collect(Collectors.toMap(i -> i.id, Function.identity())));
+
+			NpcManager npcs = new NpcManager(store);
+			npcs.load();
+			NpcManager snapshotNpcs = new NpcManager(store);
+			snapshotNpcs.load(snapshot);
+
+			Map<Integer, NpcDefinition> npcMap = npcs.getNpcs().stream()
+				.collect(Collectors.toMap(n -> n.id, Function.identity()));
+			assertFalse(npcMap.isEmpty());
+			assertEquals(npcMap, snapshotNpcs.getNpcs().stream()
+				.collect(Collectors.toMap(n -> n.id, Function.identity())));
+
+			// a changed index invalidates the snapshot
+			Index index = store.getIndex(IndexType.CONFIGS);
+			index.setCrc(index.getCrc() + 1);
+			assertFalse(snapshot.matches(store));
+
+			// the snapshot file is still mapped, and can't be replaced on Windows, so the stale
+			// snapshot is rebuilt from a copy
+			snapshot = null;
+			File stale = folder.newFile();
+			Files.copy(file.toPath(), stale.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+			snapshot = CacheSnapshot.load(store, stale);
+			assertTrue(snapshot.matches(store));
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkLoad() throws IOException
+	{
+		File file = new File(folder.getRoot(), "snapshot.bin");
+
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+			CacheSnapshot.write(store, file);
+
+			for (int run = 0; run < 5; ++run)
+			{
+				long start = System.nanoTime();
+				new ItemManager(store).load();
+				new NpcManager(store).load();
+				new ObjectManager(store).load();
+				new StructManager(store).load();
+				long storeTime = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				CacheSnapshot snapshot = CacheSnapshot.load(file);
+				new ItemManager(store).load(snapshot);
+				new NpcManager(store).load(snapshot);
+				new ObjectManager(store).load(snapshot);
+				new StructManager(store).load(snapshot);
+				long snapshotTime = System.nanoTime() - start;
+
+				logger.info("store {}ms, snapshot {}ms", storeTime / 1_000_000, snapshotTime / 1_000_000);
+			}
+		}
+	}
+}
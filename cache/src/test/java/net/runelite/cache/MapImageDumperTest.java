@@ -27,11 +27,22 @@ package net.runelite.cache;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
 import javax.imageio.ImageIO;
+import net.runelite.cache.definitions.LocationsDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.region.Location;
+import net.runelite.cache.region.Position;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
 import net.runelite.cache.util.XteaKeyManager;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -75,6 +86,33 @@ public class MapImageDumperTest
 		}
 	}
 
+	@Test
+	@Ignore
+	public void exportTiles() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			XteaKeyManager keyManager = new XteaKeyManager();
+			keyManager.loadKeys(null);
+
+			MapImageDumper dumper = new MapImageDumper(store, keyManager);
+			dumper.setRenderThreads(Runtime.getRuntime().availableProcessors());
+			dumper.load();
+
+			for (int i = 0; i < Region.Z; ++i)
+			{
+				File tileDir = new File(outDir, Integer.toString(i));
+				dumper.exportTiles(tileDir, i);
+				logger.info("Wrote tiles to {}", tileDir);
+			}
+		}
+	}
+
 	@Test
 	@Ignore
 	public void dumpRegions() throws Exception
@@ -104,4 +142,64 @@ public class MapImageDumperTest
 			}
 		}
 	}
+
+	@Test
+	public void testTiledRender() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			ObjectManager objectManager = new ObjectManager(store);
+			objectManager.load();
+			List<ObjectDefinition> objects = new ArrayList<>(objectManager.getObjects());
+			objects.sort(Comparator.comparingInt(ObjectDefinition::getId));
+
+			// the test cache has no xtea keys for the location archives, so a block of regions is loaded
+			// with generated locations, which include objects drawn over the edges of regions and tiles
+			RegionLoader regionLoader = new RegionLoader(store, region -> null);
+			Random random = new Random(42);
+			for (int x = 48; x < 53; ++x)
+			{
+				for (int y = 48; y < 53; ++y)
+				{
+					Region region = regionLoader.loadRegionFromArchive(x << 8 | y);
+					if (region == null)
+					{
+						continue;
+					}
+
+					LocationsDefinition locs = new LocationsDefinition();
+					for (int i = 0; i < 500; ++i)
+					{
+						ObjectDefinition object = objects.get(random.nextInt(objects.size()));
+						locs.getLocations().add(new Location(object.getId(), random.nextInt(23), random.nextInt(4),
+							new Position(random.nextInt(Region.X), random.nextInt(Region.Y), random.nextInt(Region.Z))));
+					}
+					region.loadLocations(locs);
+				}
+			}
+			assertFalse(regionLoader.getRegions().isEmpty());
+
+			MapImageDumper dumper = new MapImageDumper(store, regionLoader);
+			dumper.setLowMemory(false);
+			dumper.setTileRegions(2);
+			dumper.load();
+
+			for (int z = 0; z < Region.Z; ++z)
+			{
+				dumper.setRenderThreads(1);
+				BufferedImage serial = dumper.drawMap(z);
+
+				dumper.setRenderThreads(4);
+				BufferedImage tiled = dumper.drawMap(z);
+
+				assertEquals(serial.getWidth(), tiled.getWidth());
+				assertEquals(serial.getHeight(), tiled.getHeight());
+				assertArrayEquals("plane " + z,
+					serial.getRGB(0, 0, serial.getWidth(), serial.getHeight(), null, 0, serial.getWidth()),
+					tiled.getRGB(0, 0, tiled.getWidth(), tiled.getHeight(), null, 0, tiled.getWidth()));
+			}
+		}
+	}
 }
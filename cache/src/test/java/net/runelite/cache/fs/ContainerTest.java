@@ -24,14 +24,33 @@
  */
 package net.runelite.cache.fs;
 
+import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
+import static net.runelite.cache.fs.jagex.CompressionType.NONE;
+import net.runelite.cache.util.BZip2;
+import net.runelite.cache.util.Decompressor;
+import net.runelite.cache.util.GZip;
+import net.runelite.cache.util.XteaKeyManager;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Ignore;
 import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ContainerTest
 {
+	private static final Logger logger = LoggerFactory.getLogger(ContainerTest.class);
 
 	@Test
 	public void testCompress() throws IOException
@@ -52,4 +71,178 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testDecompressSlice() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			Container container = new Container(compression, 42);
+			container.compress(data, keys);
+			byte[] compressedData = container.data;
+
+			byte[] slice = new byte[compressedData.length + 16];
+			System.arraycopy(compressedData, 0, slice, 8, compressedData.length);
+			byte[] original = slice.clone();
+
+			// decrypting into a buffer leaves the input untouched
+			Container res = Container.decompress(slice, 8, compressedData.length, keys, new byte[16]);
+			assertArrayEquals(data, res.data);
+			assertArrayEquals(original, slice);
+			assertEquals(42, res.revision);
+			assertEquals(container.crc, res.crc);
+
+			res = Container.decompress(slice, 8, compressedData.length, keys, slice);
+			assertArrayEquals(data, res.data);
+			assertEquals(42, res.revision);
+			assertEquals(container.crc, res.crc);
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkMapDecompress() throws IOException
+	{
+		com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			XteaKeyManager keyManager = new XteaKeyManager();
+			keyManager.loadKeys(null);
+
+			// encrypted location archives
+			List<byte[]> archives = new ArrayList<>();
+			List<int[]> archiveKeys = new ArrayList<>();
+			Index index = store.getIndex(IndexType.MAPS);
+			for (int i = 0; i < 32768; ++i)
+			{
+				Archive land = index.findArchiveByName("l" + (i >> 8) + "_" + (i & 0xFF));
+				int[] keys = keyManager.getKey(i);
+				if (land != null && keys != null)
+				{
+					archives.add(store.getStorage().loadArchive(land));
+					archiveKeys.add(keys);
+				}
+			}
+
+			byte[] buffer = new byte[1024];
+			for (int run = 0; run < 10; ++run)
+			{
+				long allocated = threadMXBean.getThreadAllocatedBytes(threadId);
+				long start = System.nanoTime();
+				for (int i = 0; i < archives.size(); ++i)
+				{
+					Container.decompress(archives.get(i), archiveKeys.get(i));
+				}
+				long copyTime = System.nanoTime() - start;
+				long copyAllocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocated;
+
+				allocated = threadMXBean.getThreadAllocatedBytes(threadId);
+				start = System.nanoTime();
+				for (int i = 0; i < archives.size(); ++i)
+				{
+					byte[] archive = archives.get(i);
+					if (buffer.length < archive.length)
+					{
+						buffer = Arrays.copyOf(buffer, archive.length * 2);
+					}
+					Container.decompress(archive, 0, archive.length, archiveKeys.get(i), buffer);
+				}
+				long bufferTime = System.nanoTime() - start;
+				long bufferAllocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocated;
+
+				logger.info("{} archives: copying {}ns/{}B per archive, reused buffer {}ns/{}B per archive", archives.size(),
+					copyTime / archives.size(), copyAllocated / archives.size(),
+					bufferTime / archives.size(), bufferAllocated / archives.size());
+			}
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkDecompressors() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			// compressed data of every unencrypted archive, by compression type
+			Map<Integer, List<byte[]>> compressed = Map.of(BZ2, new ArrayList<>(), GZ, new ArrayList<>());
+			Map<Integer, List<byte[]>> decompressed = Map.of(BZ2, new ArrayList<>(), GZ, new ArrayList<>());
+			for (Index index : store.getIndexes())
+			{
+				if (index.getId() == IndexType.MAPS.getNumber())
+				{
+					continue;
+				}
+
+				for (Archive archive : index.getArchives())
+				{
+					byte[] data = store.getStorage().loadArchive(archive);
+					if (data == null || !compressed.containsKey(data[0] & 0xFF))
+					{
+						continue;
+					}
+
+					int compression = data[0] & 0xFF;
+					int compressedLength = Ints.fromBytes(data[1], data[2], data[3], data[4]);
+					compressed.get(compression).add(Arrays.copyOfRange(data, 9, 9 + compressedLength));
+					decompressed.get(compression).add(Container.decompress(data, null).data);
+				}
+			}
+
+			Map<String, Decompressor> bzip2 = Map.of(
+				"bzip2 stream", (in, off, len, out) -> System.arraycopy(BZip2.decompress(in, off, len), 0, out, 0, out.length),
+				"bzip2 apache", BZip2::decompressApache,
+				"bzip2 native", BZip2::decompressLibBZip2
+			);
+			Map<String, Decompressor> gzip = Map.of(
+				"gzip stream", (in, off, len, out) -> System.arraycopy(GZip.decompress(in, off, len), 0, out, 0, out.length),
+				"gzip inflater", GZip::decompress
+			);
+
+			for (int run = 0; run < 5; ++run)
+			{
+				benchmark(bzip2, compressed.get(BZ2), decompressed.get(BZ2));
+				benchmark(gzip, compressed.get(GZ), decompressed.get(GZ));
+			}
+		}
+	}
+
+	private static void benchmark(Map<String, Decompressor> decompressors, List<byte[]> compressed, List<byte[]> decompressed)
+	{
+		long bytes = decompressed.stream().mapToLong(b -> b.length).sum();
+		for (Map.Entry<String, Decompressor> entry : decompressors.entrySet())
+		{
+			Decompressor decompressor = entry.getValue();
+			long start = System.nanoTime();
+			try
+			{
+				for (int i = 0; i < compressed.size(); ++i)
+				{
+					byte[] in = compressed.get(i);
+					byte[] out = new byte[decompressed.get(i).length];
+					decompressor.decompress(in, 0, in.length, out);
+				}
+			}
+			catch (IOException | UnsatisfiedLinkError ex)
+			{
+				logger.info("{}: unavailable ({})", entry.getKey(), ex.toString());
+				continue;
+			}
+			long time = System.nanoTime() - start;
+
+			logger.info("{}: {} archives, {} MB/s", entry.getKey(), compressed.size(), String.format("%.1f", bytes / (1024.0 * 1024.0) / (time / 1e9)));
+		}
+	}
 }
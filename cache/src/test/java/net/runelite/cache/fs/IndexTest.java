@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import net.runelite.cache.util.Djb2;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class IndexTest
+{
+	@Test
+	public void testArchiveLookup()
+	{
+		Index index = new Index(5);
+		Archive a = index.addArchive(1);
+		Archive b = index.addArchive(2);
+		Archive c = index.addArchive(3);
+		a.setNameHash(Djb2.hash("a"));
+		b.setNameHash(Djb2.hash("shared"));
+		c.setNameHash(Djb2.hash("shared"));
+
+		assertSame(a, index.getArchive(1));
+		assertSame(c, index.getArchive(3));
+		assertNull(index.getArchive(4));
+
+		assertSame(a, index.findArchiveByName("a"));
+		assertSame(b, index.findArchiveByName("shared"));
+		assertNull(index.findArchiveByName("missing"));
+
+		// removing the first archive with a name falls back to the next one
+		assertTrue(index.removeArchive(b));
+		assertNull(index.getArchive(2));
+		assertSame(c, index.findArchiveByName("shared"));
+
+		a.setNameHash(Djb2.hash("renamed"));
+		assertNull(index.findArchiveByName("a"));
+		assertSame(a, index.findArchiveByName("renamed"));
+
+		// renaming an earlier archive onto a later archive's name finds the earlier one
+		a.setNameHash(Djb2.hash("shared"));
+		assertSame(a, index.findArchiveByName("shared"));
+		assertNull(index.findArchiveByName("renamed"));
+
+		a.setNameHash(Djb2.hash("renamed"));
+		assertSame(c, index.findArchiveByName("shared"));
+
+		assertEquals(2, index.getArchives().size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDuplicateArchive()
+	{
+		Index index = new Index(5);
+		index.addArchive(1);
+		index.addArchive(1);
+	}
+}
@@ -25,6 +25,10 @@
 package net.runelite.cache.fs.flat;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
@@ -100,4 +104,161 @@ public class FlatStorageTest
 			assertEquals(archive2.getRevision(), archive2_2.getRevision());
 		}
 	}
+
+	@Test
+	public void testFlatStorage() throws Exception
+	{
+		File file = folder.newFolder();
+		List<String> written = new ArrayList<>();
+		byte[] data = "test".getBytes();
+		byte[] data2 = "test2".getBytes();
+
+		FlatStorage storage = flatStorage(file, written);
+		try (Store store = new Store(storage))
+		{
+			for (int i = 0; i < 2; ++i)
+			{
+				Index index = store.addIndex(i);
+				index.setRevision(-5);
+				Archive archive = index.addArchive(7);
+				archive.setNameHash(-1234);
+				archive.setRevision(42);
+
+				FileData[] fileData = new FileData[2];
+				fileData[0] = new FileData();
+				fileData[1] = new FileData();
+				fileData[1].setId(1);
+				fileData[1].setNameHash(Integer.MIN_VALUE);
+				archive.setFileData(fileData);
+
+				Container container = new Container(archive.getCompression(), 42);
+				container.compress(data, null);
+				archive.setCrc(container.crc);
+				storage.saveArchive(archive, container.data);
+			}
+
+			store.save();
+		}
+		assertEquals(4, written.size());
+		written.clear();
+
+		byte[] compressed;
+		storage = flatStorage(file, written);
+		try (Store store = new Store(storage))
+		{
+			store.load();
+
+			Index index = store.findIndex(0);
+			assertEquals(-5, index.getRevision());
+			Archive archive = index.getArchive(7);
+			assertEquals(-1234, archive.getNameHash());
+			assertEquals(42, archive.getRevision());
+			assertEquals(2, archive.getFileData().length);
+			assertEquals(Integer.MIN_VALUE, archive.getFileData()[1].getNameHash());
+			assertArrayEquals(data, archive.decompress(storage.loadArchive(archive)));
+
+			// nothing has changed, so nothing is written
+			store.save();
+			assertTrue(written.isEmpty());
+
+			Container container = new Container(archive.getCompression(), 42);
+			container.compress(data2, null);
+			compressed = container.data;
+			storage.saveArchive(archive, compressed);
+			store.save();
+			assertEquals(List.of("0" + FlatStorage.EXTENSION + ".tmp", "0" + FlatStorage.EXTENSION), written);
+			assertFalse(new File(file, "0" + FlatStorage.EXTENSION + ".tmp").exists());
+
+			// read back from the rewritten file
+			assertArrayEquals(compressed, storage.loadArchive(archive));
+			assertArrayEquals(data, archive.decompress(storage.loadArchive(store.findIndex(1).getArchive(7))));
+		}
+
+		storage = flatStorage(file, written);
+		try (Store store = new Store(storage))
+		{
+			store.load();
+			assertArrayEquals(compressed, storage.loadArchive(store.findIndex(0).getArchive(7)));
+		}
+	}
+
+	@Test
+	public void testFailedReplace() throws Exception
+	{
+		File file = folder.newFolder();
+		byte[] data = "test".getBytes();
+		byte[] data2 = "test2".getBytes();
+
+		try (Store store = new Store(new FlatStorage(file)))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = index.addArchive(7);
+			archive.setFileData(new FileData[]{new FileData()});
+
+			Container container = new Container(archive.getCompression(), -1);
+			container.compress(data, null);
+			archive.setCrc(container.crc);
+			store.getStorage().saveArchive(archive, container.data);
+			store.save();
+		}
+
+		FlatStorage storage = new FlatStorage(file)
+		{
+			@Override
+			protected void replace(String tempFilename, String filename) throws IOException
+			{
+				throw new IOException("replace failed");
+			}
+		};
+		try (Store store = new Store(storage))
+		{
+			store.load();
+			Index index = store.findIndex(0);
+			Archive archive = index.getArchive(7);
+			byte[] compressed = storage.loadArchive(archive);
+
+			// change another archive, so that the index is rewritten but the first archive is read from the old file
+			Archive archive2 = index.addArchive(8);
+			archive2.setFileData(new FileData[]{new FileData()});
+			Container container = new Container(archive2.getCompression(), -1);
+			container.compress(data2, null);
+			archive2.setCrc(container.crc);
+			storage.saveArchive(archive2, container.data);
+
+			try
+			{
+				store.save();
+				fail();
+			}
+			catch (IOException ex)
+			{
+				assertEquals("replace failed", ex.getMessage());
+			}
+			assertFalse(new File(file, "0" + FlatStorage.EXTENSION + ".tmp").exists());
+
+			// the old file is still read from
+			assertArrayEquals(compressed, storage.loadArchive(archive));
+			assertArrayEquals(data, archive.decompress(storage.loadArchive(archive)));
+		}
+	}
+
+	private static FlatStorage flatStorage(File directory, List<String> written) throws IOException
+	{
+		return new FlatStorage(directory)
+		{
+			@Override
+			protected OutputStream openWriter(String filename) throws IOException
+			{
+				written.add(filename);
+				return super.openWriter(filename);
+			}
+
+			@Override
+			protected void replace(String tempFilename, String filename) throws IOException
+			{
+				written.add(filename);
+				super.replace(tempFilename, filename);
+			}
+		};
+	}
 }
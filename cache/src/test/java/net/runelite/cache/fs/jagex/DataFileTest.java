@@ -167,4 +167,35 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testMapped() throws IOException
+	{
+		File file = folder.newFile();
+		DataFile df = new DataFile(file, true);
+
+		Container container = new Container(CompressionType.GZ, 0);
+		container.compress("test".getBytes(), null);
+		DataFileWriteResult res = df.write(41, 4, container.data);
+
+		byte[] compressedData = df.read(41, 4, res.sector, res.compressedLength);
+		Assert.assertEquals("test", new String(Container.decompress(compressedData, null).data));
+
+		// file has grown since it was mapped
+		byte[] b = new byte[4096];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) i;
+		}
+
+		container = new Container(CompressionType.NONE, 0);
+		container.compress(b, null);
+		res = df.write(42, 0x1FFFF, container.data);
+
+		compressedData = df.read(42, 0x1FFFF, res.sector, res.compressedLength);
+		Assert.assertArrayEquals(b, Container.decompress(compressedData, null).data);
+
+		// header mismatch
+		Assert.assertNull(df.read(42, 5, res.sector, res.compressedLength));
+	}
 }
@@ -25,19 +25,30 @@
 package net.runelite.cache.fs.jagex;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.index.FileData;
+import org.junit.Ignore;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import org.junit.Rule;
 import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class DiskStorageTest
 {
+	private static final Logger logger = LoggerFactory.getLogger(DiskStorageTest.class);
+
 	@Rule
 	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
 
@@ -101,4 +112,92 @@ public class DiskStorageTest
 		}
 	}
 
+	@Test
+	public void testMappedLoad() throws Exception
+	{
+		try (Store store = new Store(new DiskStorage(StoreLocation.LOCATION));
+			Store mappedStore = new Store(new DiskStorage(StoreLocation.LOCATION, true)))
+		{
+			store.load();
+			mappedStore.load();
+
+			assertEquals(store, mappedStore);
+
+			for (Index index : store.getIndexes())
+			{
+				for (Archive archive : index.getArchives())
+				{
+					assertArrayEquals(store.getStorage().loadArchive(archive), mappedStore.getStorage().loadArchive(archive));
+				}
+			}
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkLoad() throws Exception
+	{
+		int threads = Runtime.getRuntime().availableProcessors();
+
+		for (int i = 0; i < 5; ++i)
+		{
+			try (Store store = new Store(new DiskStorage(StoreLocation.LOCATION)))
+			{
+				store.load();
+				long bytes = loadAll(store, threads);
+				logger.info("file: {} bytes with {} threads", bytes, threads);
+			}
+
+			try (Store store = new Store(new DiskStorage(StoreLocation.LOCATION, true)))
+			{
+				store.load();
+				long bytes = loadAll(store, threads);
+				logger.info("mapped: {} bytes with {} threads", bytes, threads);
+			}
+		}
+	}
+
+	private static long loadAll(Store store, int threads) throws Exception
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try
+		{
+			long start = System.nanoTime();
+
+			List<Future<Long>> futures = new ArrayList<>();
+			for (Index index : store.getIndexes())
+			{
+				futures.add(executor.submit(() -> loadIndex(store, index)));
+			}
+
+			long bytes = 0;
+			for (Future<Long> future : futures)
+			{
+				bytes += future.get();
+			}
+
+			long elapsed = System.nanoTime() - start;
+			logger.info("Read {} indexes in {}ms ({} MB/s)", futures.size(), elapsed / 1_000_000L,
+				String.format("%.1f", bytes / (elapsed / 1e9) / (1024 * 1024)));
+			return bytes;
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	private static long loadIndex(Store store, Index index) throws IOException
+	{
+		long bytes = 0;
+		for (Archive archive : index.getArchives())
+		{
+			byte[] data = store.getStorage().loadArchive(archive);
+			if (data != null)
+			{
+				bytes += data.length;
+			}
+		}
+		return bytes;
+	}
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import java.io.IOException;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.Djb2;
+import net.runelite.cache.util.XteaKeyManager;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class RegionLoaderTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(RegionLoaderTest.class);
+
+	private static final int MAX_REGION = 32768;
+
+	@Test
+	@Ignore
+	public void benchmarkLoadRegions() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			XteaKeyManager keyManager = new XteaKeyManager();
+			keyManager.loadKeys(null);
+
+			Index index = store.getIndex(IndexType.MAPS);
+
+			for (int run = 0; run < 5; ++run)
+			{
+				// the lookups loadRegions does, by linear scan and by the name hash map
+				long start = System.nanoTime();
+				int found = 0;
+				for (int i = 0; i < MAX_REGION; ++i)
+				{
+					found += scan(index, "m" + (i >> 8) + "_" + (i & 0xFF)) != null ? 1 : 0;
+					found += scan(index, "l" + (i >> 8) + "_" + (i & 0xFF)) != null ? 1 : 0;
+				}
+				long scanTime = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for (int i = 0; i < MAX_REGION; ++i)
+				{
+					index.findArchiveByName("m" + (i >> 8) + "_" + (i & 0xFF));
+					index.findArchiveByName("l" + (i >> 8) + "_" + (i & 0xFF));
+				}
+				long mapTime = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				RegionLoader regionLoader = new RegionLoader(store, keyManager);
+				regionLoader.loadRegions();
+				long loadTime = System.nanoTime() - start;
+
+				logger.info("{} archives found: linear scan {}ms, hashed {}ms, loadRegions {}ms ({} regions)",
+					found, scanTime / 1_000_000L, mapTime / 1_000_000L, loadTime / 1_000_000L, regionLoader.getRegions().size());
+			}
+		}
+	}
+
+	private static Archive scan(Index index, String name)
+	{
+		int hash = Djb2.hash(name);
+		for (Archive a : index.getArchives())
+		{
+			if (a.getNameHash() == hash)
+			{
+				return a;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import org.junit.Test;
+
+public class GZipTest
+{
+	@Test
+	public void testDecompress() throws IOException
+	{
+		byte[] data = new byte[64 * 1024];
+		Random r = new Random(42);
+		for (int i = 0; i < data.length; ++i)
+		{
+			// compressible
+			data[i] = (byte) r.nextInt(16);
+		}
+
+		byte[] compressed = GZip.compress(data);
+
+		byte[] slice = new byte[compressed.length + 7];
+		System.arraycopy(compressed, 0, slice, 3, compressed.length);
+
+		byte[] out = new byte[data.length];
+		GZip.decompress(slice, 3, compressed.length, out);
+		assertArrayEquals(data, out);
+		assertArrayEquals(data, GZip.decompress(compressed, compressed.length));
+	}
+
+	@Test
+	public void testDecompressEmpty() throws IOException
+	{
+		byte[] compressed = GZip.compress(new byte[0]);
+		GZip.decompress(compressed, 0, compressed.length, new byte[0]);
+	}
+
+	@Test
+	public void testDecompressHeaderFlags() throws IOException
+	{
+		byte[] data = "runelite".getBytes();
+		byte[] compressed = GZip.compress(data);
+
+		// insert a file name into the header
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		bout.write(compressed, 0, 10);
+		bout.write("name".getBytes());
+		bout.write(0);
+		bout.write(compressed, 10, compressed.length - 10);
+		byte[] named = bout.toByteArray();
+		named[3] |= 8; // FNAME
+
+		byte[] out = new byte[data.length];
+		GZip.decompress(named, 0, named.length, out);
+		assertArrayEquals(data, out);
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecompressShort() throws IOException
+	{
+		byte[] compressed = GZip.compress(new byte[100]);
+		GZip.decompress(compressed, 0, compressed.length, new byte[99]);
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecompressLong() throws IOException
+	{
+		byte[] compressed = GZip.compress(new byte[100]);
+		GZip.decompress(compressed, 0, compressed.length, new byte[101]);
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.IOException;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assume.assumeNoException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class LibBZip2Test
+{
+	@BeforeClass
+	public static void beforeClass()
+	{
+		// skipped where libbz2 isn't installed
+		try
+		{
+			var l = LibBZip2.INSTANCE;
+		}
+		catch (UnsatisfiedLinkError ex)
+		{
+			assumeNoException(ex);
+		}
+	}
+
+	@Test
+	public void testDecompress() throws IOException
+	{
+		byte[] data = new byte[1024 * 1024];
+		Random r = new Random(42);
+		r.nextBytes(data);
+
+		byte[] ddata = BZip2.compressApache(data);
+		byte[] idata = new byte[data.length];
+		BZip2.decompressLibBZip2(ddata, 0, ddata.length, idata);
+		assertArrayEquals(data, idata);
+	}
+}
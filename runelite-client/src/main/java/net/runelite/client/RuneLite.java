@@ -78,6 +78,7 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.discord.DiscordService;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.externalplugins.ExternalPluginManager;
+import net.runelite.client.plugins.PluginActivator;
 import net.runelite.client.plugins.PluginManager;
 import net.runelite.client.rs.ClientLoader;
 import net.runelite.client.rs.ClientUpdateCheckMode;
@@ -117,6 +118,9 @@ public class RuneLite
 	@Inject
 	private PluginManager pluginManager;
 
+	@Inject
+	private PluginActivator pluginActivator;
+
 	@Inject
 	private ExternalPluginManager externalPluginManager;
 
@@ -386,6 +390,7 @@ public class RuneLite
 
 		// Start plugins
 		pluginManager.startPlugins();
+		pluginActivator.start();
 
 		SplashScreen.stop();
 
@@ -56,7 +56,10 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.task.ExecutorTier;
+import net.runelite.client.task.ExecutorTiers;
 import net.runelite.client.task.Scheduler;
+import net.runelite.client.timing.Timings;
 import net.runelite.client.util.DeferredEventBus;
 import net.runelite.client.util.ExecutorServiceExceptionLogger;
 import net.runelite.http.api.RuneLiteAPI;
@@ -138,8 +141,20 @@ public class RuneLiteModule extends AbstractModule
 
 		bind(Callbacks.class).to(Hooks.class);
 
+		final Timings timings = new Timings();
+		bind(Timings.class).toInstance(timings);
+
+		final ExecutorTiers executorTiers = new ExecutorTiers(timings);
+		bind(ExecutorTiers.class).toInstance(executorTiers);
+		for (ExecutorTier tier : ExecutorTier.values())
+		{
+			bind(ScheduledExecutorService.class)
+				.annotatedWith(Names.named(tier.getBindingName()))
+				.toInstance(executorTiers.get(tier));
+		}
+
 		bind(EventBus.class)
-			.toInstance(new EventBus());
+			.toInstance(new EventBus(timings));
 
 		bind(EventBus.class)
 			.annotatedWith(Names.named("Deferred EventBus"))
@@ -27,28 +27,106 @@ package net.runelite.client.callback;
 import com.google.inject.Inject;
 import java.util.Iterator;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import javax.inject.Singleton;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
+import net.runelite.client.timing.Timings;
 
 @Singleton
 @Slf4j
 public class ClientThread
 {
-	private final ConcurrentLinkedQueue<BooleanSupplier> invokes = new ConcurrentLinkedQueue<>();
-	private final ConcurrentLinkedQueue<BooleanSupplier> invokesAtTickEnd = new ConcurrentLinkedQueue<>();
+	/**
+	 * Time each frame may spend running invokes. Invokes which don't fit are carried over to the next frame,
+	 * in order. At least one invoke is run each frame, so a single slow invoke can't stall the queue.
+	 */
+	private static final long INVOKE_BUDGET = TimeUnit.MILLISECONDS.toNanos(4);
+	/**
+	 * Number of times an invoke may defer before it is backed off
+	 */
+	private static final int BACKOFF_DEFERRALS = 4;
+	/**
+	 * Backed off invokes are retried every 2, 4, 8 then 16 frames
+	 */
+	private static final int MAX_BACKOFF_SHIFT = 4;
+
+	private final ConcurrentLinkedQueue<Invoke> invokes = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue<Invoke> invokesAtTickEnd = new ConcurrentLinkedQueue<>();
 
 	@Inject
 	private Client client;
 
+	@Inject
+	private Timings timings;
+
+	// only modified on the client thread
+	private long frame;
+
+	/**
+	 * Total number of times an invoke has returned false and been deferred
+	 */
+	@Getter
+	private volatile long deferredCount;
+
+	/**
+	 * Number of frames which ran out of invoke budget, carrying over the rest of the queue
+	 */
+	@Getter
+	private volatile long overBudgetCount;
+
+	private static final class Invoke
+	{
+		private final Runnable runnable;
+		private final BooleanSupplier supplier;
+		private int deferrals;
+		private long nextFrame;
+
+		private Invoke(Runnable runnable)
+		{
+			this.runnable = runnable;
+			this.supplier = null;
+		}
+
+		private Invoke(BooleanSupplier supplier)
+		{
+			this.runnable = null;
+			this.supplier = supplier;
+		}
+
+		private boolean run()
+		{
+			if (runnable != null)
+			{
+				runnable.run();
+				return true;
+			}
+			return supplier.getAsBoolean();
+		}
+
+		private Class<?> task()
+		{
+			return runnable != null ? runnable.getClass() : supplier.getClass();
+		}
+
+		@Override
+		public String toString()
+		{
+			return String.valueOf(runnable != null ? runnable : supplier);
+		}
+	}
+
 	public void invoke(Runnable r)
 	{
-		invoke(() ->
+		if (client.isClientThread())
 		{
 			r.run();
-			return true;
-		});
+			return;
+		}
+
+		invokes.add(new Invoke(r));
 	}
 
 	/**
@@ -61,7 +139,9 @@ public class ClientThread
 		{
 			if (!r.getAsBoolean())
 			{
-				invokes.add(r);
+				final Invoke invoke = new Invoke(r);
+				defer(invoke);
+				invokes.add(invoke);
 			}
 			return;
 		}
@@ -75,48 +155,67 @@ public class ClientThread
 	 */
 	public void invokeLater(Runnable r)
 	{
-		invokeLater(() ->
-		{
-			r.run();
-			return true;
-		});
+		invokes.add(new Invoke(r));
 	}
 
 	public void invokeLater(BooleanSupplier r)
 	{
-		invokes.add(r);
+		invokes.add(new Invoke(r));
 	}
 
 	public void invokeAtTickEnd(Runnable r)
 	{
-		invokesAtTickEnd.add(() ->
-		{
-			r.run();
-			return true;
-		});
+		invokesAtTickEnd.add(new Invoke(r));
+	}
+
+	/**
+	 * Get the number of invokes waiting to run, including deferred invokes
+	 *
+	 * @return
+	 */
+	public int getQueueSize()
+	{
+		return invokes.size();
 	}
 
 	void invoke()
 	{
-		invokeList(invokes);
+		++frame;
+		invokeList(invokes, INVOKE_BUDGET);
 	}
 
 	void invokeTickEnd()
 	{
-		invokeList(invokesAtTickEnd);
+		invokeList(invokesAtTickEnd, Long.MAX_VALUE);
 	}
 
-	private void invokeList(ConcurrentLinkedQueue<BooleanSupplier> invokes)
+	private void invokeList(ConcurrentLinkedQueue<Invoke> invokes, long budget)
 	{
 		assert client.isClientThread();
-		Iterator<BooleanSupplier> ir = invokes.iterator();
+		final boolean timed = timings.isEnabled();
+		final long start = System.nanoTime();
+		long now = start;
+		Iterator<Invoke> ir = invokes.iterator();
 		while (ir.hasNext())
 		{
-			BooleanSupplier r = ir.next();
+			Invoke r = ir.next();
+			if (r.nextFrame > frame)
+			{
+				// backed off
+				continue;
+			}
+
+			if (now - start >= budget)
+			{
+				++overBudgetCount;
+				log.trace("Invoke budget exhausted, carrying over from {}", r);
+				break;
+			}
+
 			boolean remove = true;
 			try
 			{
-				remove = r.getAsBoolean();
+				remove = r.run();
 			}
 			catch (ThreadDeath d)
 			{
@@ -126,6 +225,14 @@ public class ClientThread
 			{
 				log.error("Exception in invoke", e);
 			}
+
+			final long end = System.nanoTime();
+			if (timed)
+			{
+				timings.histogram(remove ? Timings.Category.INVOKE : Timings.Category.DEFERRED_INVOKE, r.task()).record(end - now);
+			}
+			now = end;
+
 			if (remove)
 			{
 				ir.remove();
@@ -133,7 +240,17 @@ public class ClientThread
 			else
 			{
 				log.trace("Deferring task {}", r);
+				defer(r);
 			}
 		}
 	}
+
+	private void defer(Invoke r)
+	{
+		++deferredCount;
+		if (++r.deferrals > BACKOFF_DEFERRALS)
+		{
+			r.nextFrame = frame + (1L << Math.min(r.deferrals - BACKOFF_DEFERRALS, MAX_BACKOFF_SHIFT));
+		}
+	}
 }
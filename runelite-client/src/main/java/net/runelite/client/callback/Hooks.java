@@ -94,6 +94,8 @@ public class Hooks implements Callbacks
 	private final Client client;
 	private final OverlayRenderer renderer;
 	private final EventBus eventBus;
+	private final EventBus.Dispatcher<GameTick> gameTickDispatcher;
+	private final EventBus.Dispatcher<BeforeRender> beforeRenderDispatcher;
 	private final DeferredEventBus deferredEventBus;
 	private final Scheduler scheduler;
 	private final InfoBoxManager infoBoxManager;
@@ -173,6 +175,8 @@ public class Hooks implements Callbacks
 		this.client = client;
 		this.renderer = renderer;
 		this.eventBus = eventBus;
+		this.gameTickDispatcher = eventBus.dispatcher(GameTick.class);
+		this.beforeRenderDispatcher = eventBus.dispatcher(BeforeRender.class);
 		this.deferredEventBus = deferredEventBus;
 		this.scheduler = scheduler;
 		this.infoBoxManager = infoBoxManager;
@@ -208,7 +212,7 @@ public class Hooks implements Callbacks
 
 			deferredEventBus.replay();
 
-			eventBus.post(GAME_TICK);
+			gameTickDispatcher.post(GAME_TICK);
 
 			int tick = client.getTickCount();
 			client.setTickCount(tick + 1);
@@ -253,7 +257,7 @@ public class Hooks implements Callbacks
 	@Override
 	public void frame()
 	{
-		eventBus.post(BEFORE_RENDER);
+		beforeRenderDispatcher.post(BEFORE_RENDER);
 	}
 
 	/**
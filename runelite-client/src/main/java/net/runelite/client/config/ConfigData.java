@@ -24,6 +24,7 @@
  */
 package net.runelite.client.config;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -31,26 +32,47 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Config properties backed by a properties file and a journal of patches.
+ * <p>
+ * Saves append the changed keys to the journal instead of rewriting the properties file, and the
+ * journal is folded back into the properties file once it grows larger than it. The journal is
+ * made of batches of {@code +key=value} and {@code -key} lines, each batch terminated by an empty
+ * line, so a batch cut short by an interrupted write is ignored.
+ */
 @Slf4j
 class ConfigData
 {
+	/**
+	 * Journal size below which the journal is never compacted
+	 */
+	private static final long MIN_COMPACT_SIZE = 64 * 1024;
+
 	private final File configPath;
 
 	private final ConcurrentHashMap<String, String> properties;
+	// sorted copy of the keys of properties, for prefix queries
+	private final ConcurrentSkipListSet<String> keys;
 	private Map<String, String> patchChanges = new HashMap<>();
 
 	ConfigData(File configPath)
@@ -58,13 +80,18 @@ class ConfigData
 		this.configPath = configPath;
 
 		Properties props = new Properties();
-		try (FileInputStream in = new FileInputStream(configPath);
-			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
-		{
-			props.load(reader);
-		}
-		catch (FileNotFoundException ignored)
+		try
 		{
+			if (journalFile(configPath).exists())
+			{
+				// compaction rewrites the properties file and then deletes the journal, so
+				// lock to read the two consistently
+				withLock(configPath, () -> load(configPath, props));
+			}
+			else
+			{
+				load(configPath, props);
+			}
 		}
 		catch (Exception ex)
 		{
@@ -73,6 +100,7 @@ class ConfigData
 
 		properties = new ConcurrentHashMap<>(props.size());
 		props.forEach((k, v) -> properties.put((String) k, (String) v));
+		keys = new ConcurrentSkipListSet<>(properties.keySet());
 	}
 
 	String getProperty(String key)
@@ -83,6 +111,10 @@ class ConfigData
 	synchronized String setProperty(String key, String value)
 	{
 		String old = properties.put(key, value);
+		if (old == null)
+		{
+			keys.add(key);
+		}
 		if (!Objects.equals(old, value))
 		{
 			patchChanges.put(key, value);
@@ -95,6 +127,7 @@ class ConfigData
 		String old = properties.remove(key);
 		if (old != null)
 		{
+			keys.remove(key);
 			patchChanges.put(key, null);
 		}
 		return old;
@@ -104,6 +137,7 @@ class ConfigData
 	{
 		patchChanges.putAll(values);
 		properties.putAll(values);
+		keys.addAll(values.keySet());
 	}
 
 	Set<String> keySet()
@@ -111,6 +145,20 @@ class ConfigData
 		return properties.keySet();
 	}
 
+	/**
+	 * Get the keys starting with a prefix, in sorted order. This costs O(log n + matches) instead of
+	 * a scan over every key.
+	 *
+	 * @param prefix
+	 * @return
+	 */
+	List<String> keysWithPrefix(String prefix)
+	{
+		return keys.tailSet(prefix).stream()
+			.takeWhile(k -> k.startsWith(prefix))
+			.collect(Collectors.toList());
+	}
+
 	Map<String, String> get()
 	{
 		return Collections.unmodifiableMap(properties);
@@ -130,75 +178,320 @@ class ConfigData
 
 	void patch(Map<String, String> patch)
 	{
-		// load + patch + store instead of just flushing the in-memory properties to disk so that
+		// append the patch to the journal instead of just flushing the in-memory properties to disk so that
 		// multiple clients editing one config data (such as rs profile config) get their data merged
 		// correctly
 
+		try
+		{
+			withLock(configPath, () ->
+			{
+				File journal = journalFile(configPath);
+				if (configPath.length() == 0 && journal.length() == 0)
+				{
+					// this probably doesn't happen outside of the very first save (when no file exists)
+					// but to be safe in the event the prop is deleted off disk, flush the entire properties
+					// from memory
+					Properties props = new Properties();
+					props.putAll(properties);
+					store(configPath, props);
+					return;
+				}
+
+				if (patch.isEmpty())
+				{
+					return;
+				}
+
+				long journalSize = append(journal, patch);
+				if (journalSize < 0)
+				{
+					log.warn("config journal {} was not fully written, compacting", journal);
+					compact(configPath, journal);
+					journalSize = append(journal, patch);
+				}
+
+				// compacting costs a full rewrite of the properties file, so only do it once the journal
+				// has grown to its size
+				if (journalSize > Math.max(MIN_COMPACT_SIZE, configPath.length()))
+				{
+					log.debug("compacting config journal {} ({} bytes)", journal, journalSize);
+					compact(configPath, journal);
+				}
+			});
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to save configuration file", ex);
+		}
+	}
+
+	/**
+	 * Fold the journal into the properties file, so that the properties file alone holds the full config.
+	 * This should be done before copying or moving the properties file.
+	 *
+	 * @param configPath
+	 */
+	static void compact(File configPath)
+	{
+		if (!journalFile(configPath).exists())
+		{
+			return;
+		}
+
+		try
+		{
+			withLock(configPath, () -> compact(configPath, journalFile(configPath)));
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to compact configuration file", ex);
+		}
+	}
+
+	static File journalFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".journal");
+	}
+
+	private interface LockedAction
+	{
+		void run() throws IOException;
+	}
+
+	private static void withLock(File configPath, LockedAction action) throws IOException
+	{
 		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
 		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
 			FileChannel lckChannel = lockOut.getChannel())
 		{
 			lckChannel.lock();
+			action.run();
+		}
+		finally
+		{
+			lckFile.delete();
+		}
+	}
 
-			Properties tempProps = new Properties();
-			try (FileInputStream in = new FileInputStream(configPath);
-				InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+	private static void load(File configPath, Properties props) throws IOException
+	{
+		try (FileInputStream in = new FileInputStream(configPath);
+			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+		{
+			props.load(reader);
+		}
+		catch (FileNotFoundException e)
+		{
+			log.debug("config file {} does not exist", configPath);
+		}
+
+		replay(journalFile(configPath), props);
+	}
+
+	private static void compact(File configPath, File journal) throws IOException
+	{
+		Properties props = new Properties();
+		load(configPath, props);
+		store(configPath, props);
+
+		// if this is interrupted before the journal is deleted, replaying the journal again
+		// on top of the new properties file is harmless
+		Files.deleteIfExists(journal.toPath());
+	}
+
+	private static void store(File configPath, Properties props) throws IOException
+	{
+		File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
+		try (FileOutputStream out = new FileOutputStream(tempFile);
+			FileChannel channel = out.getChannel();
+			OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+		{
+			channel.lock();
+			props.store(writer, "RuneLite configuration");
+			writer.flush();
+			channel.force(true);
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Append a patch to the journal
+	 *
+	 * @param journal
+	 * @param patch
+	 * @return the new size of the journal, or -1 if the journal ends in an incomplete batch and
+	 * the patch was not appended
+	 * @throws IOException
+	 */
+	private static long append(File journal, Map<String, String> patch) throws IOException
+	{
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, String> entry : patch.entrySet())
+		{
+			if (entry.getValue() == null)
 			{
-				tempProps.load(reader);
+				sb.append('-');
+				escape(sb, entry.getKey());
 			}
-			catch (FileNotFoundException e)
+			else
 			{
-				log.debug("config file {} does not exist", configPath);
+				sb.append('+');
+				escape(sb, entry.getKey());
+				sb.append('=');
+				escape(sb, entry.getValue());
 			}
+			sb.append('\n');
+		}
+		sb.append('\n');
 
-			if (tempProps.isEmpty())
+		ByteBuffer buf = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+		try (FileChannel channel = FileChannel.open(journal.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE))
+		{
+			long size = channel.size();
+			if (size > 0)
 			{
-				// this probably doesn't happen outside of the very first save (when no file exists)
-				// but to be safe in the event the prop is deleted off disk, flush the entire properties
-				// from memory
-				tempProps.putAll(properties);
+				ByteBuffer tail = ByteBuffer.allocate(2);
+				if (size < 2 || channel.read(tail, size - 2) != 2 || tail.get(0) != '\n' || tail.get(1) != '\n')
+				{
+					return -1;
+				}
 			}
-			else
+
+			channel.position(size);
+			while (buf.hasRemaining())
 			{
-				// apply patches
-				for (Map.Entry<String, String> entry : patch.entrySet())
+				channel.write(buf);
+			}
+			channel.force(false);
+			return channel.size();
+		}
+	}
+
+	private static void replay(File journal, Properties props) throws IOException
+	{
+		Map<String, String> batch = new LinkedHashMap<>();
+		try (FileInputStream in = new FileInputStream(journal);
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))
+		{
+			StringBuilder sb = new StringBuilder();
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				if (line.isEmpty())
 				{
-					if (entry.getValue() == null)
-					{
-						tempProps.remove(entry.getKey());
-					}
-					else
-					{
-						tempProps.put(entry.getKey(), entry.getValue());
-					}
+					applyPatch(props, batch);
+					batch.clear();
+					continue;
+				}
+
+				sb.setLength(0);
+				int end = unescape(line, 1, sb);
+				String key = sb.toString();
+
+				if (line.charAt(0) == '-')
+				{
+					batch.put(key, null);
+				}
+				else if (line.charAt(0) == '+' && end < line.length())
+				{
+					sb.setLength(0);
+					unescape(line, end + 1, sb);
+					batch.put(key, sb.toString());
+				}
+				else
+				{
+					log.debug("malformed config journal line in {}: {}", journal, line);
 				}
 			}
+		}
+		catch (FileNotFoundException ignored)
+		{
+		}
 
-			File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
-			try (FileOutputStream out = new FileOutputStream(tempFile);
-				FileChannel channel = out.getChannel();
-				OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+		// anything left in the batch is from an interrupted write
+	}
+
+	private static void applyPatch(Properties props, Map<String, String> patch)
+	{
+		for (Map.Entry<String, String> entry : patch.entrySet())
+		{
+			if (entry.getValue() == null)
 			{
-				channel.lock();
-				tempProps.store(writer, "RuneLite configuration");
-				writer.flush();
-				channel.force(true);
+				props.remove(entry.getKey());
 			}
-
-			try
+			else
 			{
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				props.put(entry.getKey(), entry.getValue());
 			}
-			catch (AtomicMoveNotSupportedException ex)
+		}
+	}
+
+	private static void escape(StringBuilder sb, String s)
+	{
+		for (int i = 0; i < s.length(); ++i)
+		{
+			char c = s.charAt(i);
+			switch (c)
 			{
-				log.debug("atomic move not supported", ex);
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				case '\\':
+					sb.append("\\\\");
+					break;
+				case '\n':
+					sb.append("\\n");
+					break;
+				case '\r':
+					sb.append("\\r");
+					break;
+				case '=':
+					sb.append("\\=");
+					break;
+				default:
+					sb.append(c);
 			}
 		}
-		catch (IOException ex)
+	}
+
+	/**
+	 * Unescape a journal string into sb, stopping at an unescaped '='
+	 *
+	 * @return the index of the '=', or the length of the line if there is none
+	 */
+	private static int unescape(String line, int start, StringBuilder sb)
+	{
+		int i = start;
+		while (i < line.length())
 		{
-			log.error("unable to save configuration file", ex);
+			char c = line.charAt(i);
+			if (c == '=')
+			{
+				return i;
+			}
+
+			if (c == '\\' && i + 1 < line.length())
+			{
+				c = line.charAt(++i);
+				if (c == 'n')
+				{
+					c = '\n';
+				}
+				else if (c == 'r')
+				{
+					c = '\r';
+				}
+			}
+			sb.append(c);
+			++i;
 		}
-		lckFile.delete();
+		return i;
 	}
 }
@@ -24,11 +24,13 @@
  */
 package net.runelite.client.config;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
 
@@ -39,9 +41,12 @@ class ConfigInvocationHandler implements InvocationHandler
 	private static final Object NULL = new Object();
 
 	private final ConfigManager manager;
-	private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
-		.maximumSize(256)
-		.build();
+	// unmarshalled value of each config item method. This is bounded by the number of config items.
+	private final Map<Method, Object> cache = new ConcurrentHashMap<>();
+	// the methods cached for each group.key, so that changing one key only invalidates its methods
+	private final Map<String, Set<Method>> methodsByKey = new ConcurrentHashMap<>();
+	// incremented on each invalidation, so values read before an invalidation aren't cached after it
+	private final AtomicLong generation = new AtomicLong();
 
 	ConfigInvocationHandler(ConfigManager manager)
 	{
@@ -54,7 +59,7 @@ class ConfigInvocationHandler implements InvocationHandler
 		// Use cached configuration value if available
 		if (args == null)
 		{
-			Object cachedValue = cache.getIfPresent(method);
+			Object cachedValue = cache.get(method);
 			if (cachedValue != null)
 			{
 				return cachedValue == NULL ? null : cachedValue;
@@ -97,6 +102,8 @@ class ConfigInvocationHandler implements InvocationHandler
 		{
 			log.trace("cache miss (size: {}, group: {}, key: {})", cache.size(), group.value(), item.keyName());
 
+			long generation = this.generation.get();
+
 			// Getting configuration item
 			String value = manager.getConfiguration(group.value(), item.keyName());
 
@@ -105,11 +112,11 @@ class ConfigInvocationHandler implements InvocationHandler
 				if (method.isDefault())
 				{
 					Object defaultValue = callDefaultMethod(proxy, method, null);
-					cache.put(method, defaultValue == null ? NULL : defaultValue);
+					cache(generation, group.value(), item.keyName(), method, defaultValue);
 					return defaultValue;
 				}
 
-				cache.put(method, NULL);
+				cache(generation, group.value(), item.keyName(), method, null);
 				return null;
 			}
 
@@ -117,7 +124,7 @@ class ConfigInvocationHandler implements InvocationHandler
 			try
 			{
 				Object objectValue = manager.stringToObject(value, method.getGenericReturnType());
-				cache.put(method, objectValue == null ? NULL : objectValue);
+				cache(generation, group.value(), item.keyName(), method, objectValue);
 				return objectValue;
 			}
 			catch (Exception e)
@@ -184,9 +191,45 @@ class ConfigInvocationHandler implements InvocationHandler
 			.invokeWithArguments(args);
 	}
 
+	private void cache(long generation, String group, String key, Method method, Object value)
+	{
+		methodsByKey.computeIfAbsent(group + "." + key, k -> ConcurrentHashMap.newKeySet()).add(method);
+		cache.put(method, value == null ? NULL : value);
+
+		if (this.generation.get() != generation)
+		{
+			// invalidated while the value was being read, so it may be stale
+			cache.remove(method);
+		}
+	}
+
 	void invalidate()
 	{
 		log.trace("cache invalidate");
-		cache.invalidateAll();
+		generation.incrementAndGet();
+		cache.clear();
+	}
+
+	/**
+	 * Invalidate the cached values of a single config item
+	 *
+	 * @param group config group
+	 * @param key config key
+	 */
+	void invalidate(String group, String key)
+	{
+		generation.incrementAndGet();
+
+		Set<Method> methods = methodsByKey.get(group + "." + key);
+		if (methods == null)
+		{
+			return;
+		}
+
+		log.trace("cache invalidate {}.{}", group, key);
+		for (Method method : methods)
+		{
+			cache.remove(method);
+		}
 	}
 }
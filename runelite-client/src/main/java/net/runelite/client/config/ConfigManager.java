@@ -584,6 +584,7 @@ public class ConfigManager
 			this.profile = profile;
 			this.rsProfile = rsProfile;
 			configProfile = new ConfigData(ProfileManager.profileConfigFile(profile));
+			handler.invalidate();
 			rsProfileConfigProfile = new ConfigData(ProfileManager.profileConfigFile(rsProfile));
 		}
 
@@ -692,6 +693,7 @@ public class ConfigManager
 				File configFile = ProfileManager.profileConfigFile(profile);
 				// remote configuration replaces local
 				configFile.delete();
+				ConfigData.journalFile(configFile).delete();
 
 				ConfigData configData = new ConfigData(configFile);
 				configData.putAll(remoteConfiguration.getConfig());
@@ -725,9 +727,7 @@ public class ConfigManager
 
 	public List<String> getConfigurationKeys(String prefix)
 	{
-		return configProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.collect(Collectors.toList());
+		return configProfile.keysWithPrefix(prefix);
 	}
 
 	public List<String> getRSProfileConfigurationKeys(String group, String profile, String keyPrefix)
@@ -740,8 +740,7 @@ public class ConfigManager
 		assert profile.startsWith(RSPROFILE_GROUP);
 
 		String prefix = group + "." + profile + "." + keyPrefix;
-		return rsProfileConfigProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
+		return rsProfileConfigProfile.keysWithPrefix(prefix).stream()
 			.map(k -> splitKey(k)[KEY_SPLITTER_KEY])
 			.collect(Collectors.toList());
 	}
@@ -844,7 +843,11 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {} to {}", wholeKey, value);
-		handler.invalidate();
+		if (profile == null)
+		{
+			// config proxies only read from the non-rs profile
+			handler.invalidate(groupName, key);
+		}
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -935,7 +938,10 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}", wholeKey);
-		handler.invalidate();
+		if (profile == null)
+		{
+			handler.invalidate(groupName, key);
+		}
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -1371,13 +1377,8 @@ public class ConfigManager
 	{
 		String prefix = RSPROFILE_GROUP + "." + RSPROFILE_GROUP + ".";
 		Set<String> profileKeys = new HashSet<>();
-		for (String key : rsProfileConfigProfile.keySet())
+		for (String key : rsProfileConfigProfile.keysWithPrefix(prefix))
 		{
-			if (!key.startsWith(prefix))
-			{
-				continue;
-			}
-
 			String[] split = splitKey(key);
 			if (split == null)
 			{
@@ -195,6 +195,8 @@ public class ProfileManager
 		public void renameProfile(ConfigProfile profile, String name)
 		{
 			File oldFile = profileConfigFile(profile);
+			// the journal is named after the properties file, so fold it in before the move
+			ConfigData.compact(oldFile);
 			profile.setName(name);
 			modified = true;
 			File newFile = profileConfigFile(profile);
@@ -236,4 +238,14 @@ public class ProfileManager
 	{
 		return new File(PROFILES_DIR, profile.getName() + "-" + profile.getId() + ".properties");
 	}
+
+	/**
+	 * Fold any journaled config changes of the profile into its properties file, so that the file can be copied
+	 *
+	 * @param profile
+	 */
+	public static void compactProfileConfig(ConfigProfile profile)
+	{
+		ConfigData.compact(profileConfigFile(profile));
+	}
 }
@@ -26,8 +26,6 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -35,24 +33,40 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.timing.TimingHistogram;
+import net.runelite.client.timing.Timings;
 import net.runelite.client.util.ReflectUtil;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 
 @Slf4j
-@RequiredArgsConstructor
 @ThreadSafe
 public class EventBus
 {
 	private static final Marker DEDUPLICATE = MarkerFactory.getMarker("DEDUPLICATE");
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+	private static final Comparator<Subscriber> SUBSCRIBER_ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
 
 	@Value
 	public static class Subscriber
@@ -62,6 +76,30 @@ public class EventBus
 		private final float priority;
 		@EqualsAndHashCode.Exclude
 		private final Consumer<Object> lambda;
+		/**
+		 * The event key this subscriber receives, or null to receive all events
+		 *
+		 * @see KeyedEvent
+		 */
+		@Nullable
+		private final String key;
+		/**
+		 * Handler timings, if the event bus has {@link Timings}
+		 */
+		@NonFinal
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		@Nullable
+		private TimingHistogram timing;
+
+		public Subscriber(Object object, Method method, float priority, Consumer<Object> lambda, @Nullable String key)
+		{
+			this.object = object;
+			this.method = method;
+			this.priority = priority;
+			this.lambda = lambda;
+			this.key = key;
+		}
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -76,17 +114,113 @@ public class EventBus
 		}
 	}
 
+	/**
+	 * A handle for posting events of a single type, which avoids looking up the subscribers
+	 * on each post. Handles remain valid as subscribers are registered and unregistered.
+	 *
+	 * @param <T> event type
+	 */
+	public final class Dispatcher<T>
+	{
+		// replaced rather than modified when subscribers change
+		private volatile Routes routes = Routes.NONE;
+
+		/**
+		 * Posts an event to all of the subscribers of this handle's event type.
+		 *
+		 * @param event event to post
+		 * @see EventBus#post(Object)
+		 */
+		public void post(@Nonnull final T event)
+		{
+			dispatch(routes.get(event), event);
+		}
+
+		public boolean hasSubscribers()
+		{
+			return routes.all.length > 0;
+		}
+	}
+
+	/**
+	 * The subscribers of an event type. Each array is sorted.
+	 */
+	private static final class Routes
+	{
+		private static final Routes NONE = new Routes(EMPTY);
+
+		private final Subscriber[] all;
+		// subscribers which receive every event
+		private final Subscriber[] unkeyed;
+		// for each key, the subscribers with the key and the unkeyed subscribers
+		private final Map<String, Subscriber[]> keyed = new HashMap<>();
+
+		private Routes(final Subscriber[] all)
+		{
+			this.all = all;
+			this.unkeyed = Arrays.stream(all)
+				.filter(s -> s.key == null)
+				.toArray(Subscriber[]::new);
+
+			for (Subscriber subscriber : all)
+			{
+				if (subscriber.key != null)
+				{
+					keyed.computeIfAbsent(subscriber.key, k -> Arrays.stream(all)
+						.filter(s -> s.key == null || s.key.equals(k))
+						.toArray(Subscriber[]::new));
+				}
+			}
+		}
+
+		private Subscriber[] get(final Object event)
+		{
+			if (keyed.isEmpty())
+			{
+				return unkeyed;
+			}
+
+			final Subscriber[] subscribers = keyed.get(((KeyedEvent) event).getEventKey());
+			return subscribers != null ? subscribers : unkeyed;
+		}
+	}
+
 	private final Consumer<Throwable> exceptionHandler;
+	@Nullable
+	private final Timings timings;
 
-	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	private final Map<Class<?>, Dispatcher<?>> dispatchers = new ConcurrentHashMap<>();
+
+	// event types each registered object subscribes to, so unregistering only rebuilds those types. Guarded by this.
+	private final Map<Object, Set<Class<?>>> registrations = new IdentityHashMap<>();
 
 	/**
 	 * Instantiates EventBus with default exception handler
 	 */
 	public EventBus()
 	{
-		this((e) -> log.warn(DEDUPLICATE, "Uncaught exception in event subscriber", e));
+		this((Timings) null);
+	}
+
+	/**
+	 * Instantiates EventBus with default exception handler, recording subscriber timings
+	 *
+	 * @param timings timings to record into, or null
+	 */
+	public EventBus(@Nullable final Timings timings)
+	{
+		this((e) -> log.warn(DEDUPLICATE, "Uncaught exception in event subscriber", e), timings);
+	}
+
+	public EventBus(final Consumer<Throwable> exceptionHandler)
+	{
+		this(exceptionHandler, null);
+	}
+
+	public EventBus(final Consumer<Throwable> exceptionHandler, @Nullable final Timings timings)
+	{
+		this.exceptionHandler = exceptionHandler;
+		this.timings = timings;
 	}
 
 	/**
@@ -98,10 +232,8 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		final List<Class<?>> eventClasses = new ArrayList<>();
+		final List<Subscriber> subscribers = new ArrayList<>();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -125,7 +257,8 @@ public class EventBus
 
 				for (Class<?> psc = parameterClazz.getSuperclass(); psc != null; psc = psc.getSuperclass())
 				{
-					if (subscribers.containsKey(psc))
+					final Dispatcher<?> dispatcher = dispatchers.get(psc);
+					if (dispatcher != null && dispatcher.hasSubscribers())
 					{
 						throw new IllegalArgumentException("@Subscribed method \"" + method + "\" cannot subscribe to class which inherits from subscribed class \"" + psc + "\"");
 					}
@@ -158,27 +291,45 @@ public class EventBus
 					log.warn("Unable to create lambda for method {}", method, e);
 				}
 
-				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
-				log.debug("Registering {} - {}", parameterClazz, subscriber);
+				final String[] keys = sub.key();
+				Preconditions.checkArgument(keys.length == 0 || KeyedEvent.class.isAssignableFrom(parameterClazz), "@Subscribed method \"" + method + "\" cannot subscribe by key to an event which does not implement KeyedEvent");
+
+				for (final String key : keys.length > 0 ? keys : new String[]{null})
+				{
+					final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda, key);
+					eventClasses.add(parameterClazz);
+					subscribers.add(subscriber);
+					log.debug("Registering {} - {}", parameterClazz, subscriber);
+				}
 			}
 		}
 
-		subscribers = builder.build();
+		for (int i = 0; i < subscribers.size(); ++i)
+		{
+			add(eventClasses.get(i), subscribers.get(i));
+		}
 	}
 
-	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
+	public <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
-
-		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
+		return register(clazz, subFn, priority, null);
+	}
 
-		subscribers = builder.build();
+	/**
+	 * Registers a subscriber function for only the events with the given key
+	 *
+	 * @param clazz event type, which must implement {@link KeyedEvent} if a key is given
+	 * @param subFn subscriber function
+	 * @param priority subscriber priority
+	 * @param key event key to receive, or null for all events
+	 * @return the subscriber
+	 */
+	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority, @Nullable String key)
+	{
+		Preconditions.checkArgument(key == null || KeyedEvent.class.isAssignableFrom(clazz), "cannot subscribe by key to " + clazz + " which does not implement KeyedEvent");
 
+		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn, key);
+		add(clazz, sub);
 		return sub;
 	}
 
@@ -189,10 +340,16 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		final Set<Class<?>> eventClasses = registrations.remove(object);
+		if (eventClasses == null)
+		{
+			return;
+		}
+
+		for (Class<?> eventClass : eventClasses)
+		{
+			remove(eventClass, s -> s.getObject() == object);
+		}
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,22 +359,62 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		final Object object = sub.getObject();
+		final Set<Class<?>> eventClasses = registrations.get(object);
+		if (eventClasses == null)
+		{
+			return;
+		}
+
+		for (Class<?> eventClass : eventClasses)
+		{
+			remove(eventClass, s -> s == sub);
+		}
+
+		// forget the event types the object no longer has subscribers for
+		eventClasses.removeIf(eventClass -> Arrays.stream(dispatchers.get(eventClass).routes.all)
+			.noneMatch(s -> s.getObject() == object));
+		if (eventClasses.isEmpty())
+		{
+			registrations.remove(object);
+		}
 	}
 
 	/**
 	 * Posts provided event to all registered subscribers. Subscriber calls are invoked immediately,
-	 * ordered by priority then their declaring class' name.
+	 * ordered by priority then their declaring class' name. {@link KeyedEvent}s are only posted
+	 * to subscribers without a key and the subscribers for the event's key.
 	 *
 	 * @param event event to post
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Dispatcher<?> dispatcher = dispatchers.get(event.getClass());
+		if (dispatcher != null)
+		{
+			dispatch(dispatcher.routes.get(event), event);
+		}
+	}
+
+	/**
+	 * Gets a handle for posting events of the given type. Callers which post the same event type
+	 * frequently can hold on to the handle to skip looking up the subscribers on each post.
+	 *
+	 * @param eventClass event type
+	 * @return the dispatcher for the event type
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Dispatcher<T> dispatcher(@Nonnull final Class<T> eventClass)
+	{
+		return (Dispatcher<T>) dispatchers.computeIfAbsent(eventClass, k -> new Dispatcher<>());
+	}
+
+	private void dispatch(final Subscriber[] subscribers, final Object event)
+	{
+		final boolean timed = timings != null && timings.isEnabled();
+		for (final Subscriber subscriber : subscribers)
 		{
+			final long start = timed ? System.nanoTime() : 0L;
 			try
 			{
 				subscriber.invoke(event);
@@ -226,6 +423,45 @@ public class EventBus
 			{
 				exceptionHandler.accept(e);
 			}
+
+			if (timed && subscriber.timing != null)
+			{
+				subscriber.timing.record(System.nanoTime() - start);
+			}
+		}
+	}
+
+	private void add(final Class<?> eventClass, final Subscriber subscriber)
+	{
+		if (timings != null)
+		{
+			final String name = subscriber.method != null
+				? Timings.name(subscriber.method.getDeclaringClass()) + "." + subscriber.method.getName()
+				: Timings.name(subscriber.object.getClass()) + " " + eventClass.getSimpleName();
+			subscriber.timing = timings.histogram(Timings.Category.SUBSCRIBER, name);
+		}
+
+		final Dispatcher<?> dispatcher = dispatcher(eventClass);
+		final Subscriber[] old = dispatcher.routes.all;
+		final Subscriber[] subscribers = Arrays.copyOf(old, old.length + 1);
+		subscribers[old.length] = subscriber;
+		// stable, so subscribers which compare equal stay in registration order
+		Arrays.sort(subscribers, SUBSCRIBER_ORDER);
+		dispatcher.routes = new Routes(subscribers);
+
+		registrations.computeIfAbsent(subscriber.getObject(), k -> new HashSet<>()).add(eventClass);
+	}
+
+	private void remove(final Class<?> eventClass, final Predicate<Subscriber> filter)
+	{
+		final Dispatcher<?> dispatcher = dispatchers.get(eventClass);
+		final Subscriber[] old = dispatcher.routes.all;
+		final Subscriber[] subscribers = Arrays.stream(old)
+			.filter(filter.negate())
+			.toArray(Subscriber[]::new);
+		if (subscribers.length != old.length)
+		{
+			dispatcher.routes = subscribers.length == 0 ? Routes.NONE : new Routes(subscribers);
 		}
 	}
 }
@@ -43,4 +43,12 @@ public @interface Subscribe
 	 * @return
 	 */
 	float priority() default 0;
+
+	/**
+	 * Keys of the events to receive, for events which implement {@link KeyedEvent}, eg. the config
+	 * groups of {@link net.runelite.client.events.ConfigChanged}. Events with other keys are not
+	 * delivered to the subscriber. If no keys are given, all events are received.
+	 * @return
+	 */
+	String[] key() default {};
 }
@@ -27,12 +27,15 @@ package net.runelite.client.events;
 import javax.annotation.Nullable;
 import lombok.Data;
 import net.runelite.client.config.RuneScapeProfile;
+import net.runelite.client.eventbus.KeyedEvent;
 
 /**
  * An event where a configuration entry has been modified.
+ * <p>
+ * Subscribers can receive only the changes to a group with {@code @Subscribe(key = group)}.
  */
 @Data
-public class ConfigChanged
+public class ConfigChanged implements KeyedEvent
 {
 	/**
 	 * The parent group for the key.
@@ -61,4 +64,10 @@ public class ConfigChanged
 	 * The new value of the entry, null if the entry has been unset.
 	 */
 	private String newValue;
+
+	@Override
+	public String getEventKey()
+	{
+		return group;
+	}
 }
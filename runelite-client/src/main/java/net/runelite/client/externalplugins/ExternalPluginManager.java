@@ -339,7 +339,11 @@ public class ExternalPluginManager
 							{
 								for (Plugin p : newPlugins2)
 								{
-									pluginManager.startPlugin(p);
+									// plugins with activation triggers are started by the PluginActivator
+									if (!pluginManager.isStartedByTriggers(p))
+									{
+										pluginManager.startPlugin(p);
+									}
 								}
 							}
 							catch (PluginInstantiationException e)
@@ -56,6 +56,7 @@ import net.runelite.api.SpritePixels;
 import net.runelite.api.widgets.ItemQuantityMode;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.task.ExecutorTiers;
 import net.runelite.client.util.AsyncBufferedImage;
 import net.runelite.http.api.item.ItemPrice;
 import net.runelite.http.api.item.ItemStats;
@@ -180,7 +181,7 @@ public class ItemManager
 		build();
 
 	@Inject
-	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ClientThread clientThread,
+	public ItemManager(Client client, @Named(ExecutorTiers.IO) ScheduledExecutorService scheduledExecutorService, ClientThread clientThread,
 		ItemClient itemClient, RuneLiteConfig runeLiteConfig)
 	{
 		this.client = client;
@@ -30,8 +30,10 @@ import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.task.ExecutorTiers;
 
 @Singleton
 @Slf4j
@@ -41,7 +43,7 @@ public class NPCManager
 	private Map<Integer, NpcInfo> npcMap = Collections.emptyMap();
 
 	@Inject
-	private NPCManager(NpcInfoClient npcInfoClient, ScheduledExecutorService scheduledExecutorService)
+	private NPCManager(NpcInfoClient npcInfoClient, @Named(ExecutorTiers.IO) ScheduledExecutorService scheduledExecutorService)
 	{
 		this.npcInfoClient = npcInfoClient;
 		scheduledExecutorService.execute(this::loadNpcs);
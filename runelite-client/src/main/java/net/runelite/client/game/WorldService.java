@@ -40,7 +40,7 @@ import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.events.WorldsFetch;
-import net.runelite.client.util.RunnableExceptionLogger;
+import net.runelite.client.task.ExecutorTiers;
 import net.runelite.http.api.worlds.World;
 import net.runelite.http.api.worlds.WorldResult;
 import okhttp3.HttpUrl;
@@ -61,7 +61,7 @@ public class WorldService
 	private WorldResult worlds;
 
 	@Inject
-	private WorldService(Client client, ScheduledExecutorService scheduledExecutorService, OkHttpClient okHttpClient,
+	private WorldService(Client client, @Named(ExecutorTiers.IO) ScheduledExecutorService scheduledExecutorService, OkHttpClient okHttpClient,
 		@Named("runelite.api.base") HttpUrl apiBase, EventBus eventBus)
 	{
 		this.client = client;
@@ -69,7 +69,7 @@ public class WorldService
 		this.worldClient = new WorldClient(okHttpClient, apiBase);
 		this.eventBus = eventBus;
 
-		scheduledExecutorService.scheduleWithFixedDelay(RunnableExceptionLogger.wrap(this::tick), 0, WORLD_FETCH_TIMER, TimeUnit.MINUTES);
+		scheduledExecutorService.scheduleWithFixedDelay(this::tick, 0, WORLD_FETCH_TIMER, TimeUnit.MINUTES);
 	}
 
 	private void tick()
@@ -87,7 +87,9 @@ public class WorldService
 		}
 	}
 
-	private void fetch()
+	// tick and refresh run on the shared IO executor, so fetches are serialized to keep an older
+	// result from overwriting a newer one and to post WorldsFetch events in order
+	private synchronized void fetch()
 	{
 		log.debug("Fetching worlds");
 
@@ -31,9 +31,11 @@ import java.io.IOException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import net.runelite.client.task.ExecutorTiers;
 
 @Singleton
 public class HiscoreManager
@@ -53,7 +55,7 @@ public class HiscoreManager
 	private final HiscoreClient hiscoreClient;
 
 	@Inject
-	private HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient)
+	private HiscoreManager(@Named(ExecutorTiers.IO) ScheduledExecutorService executor, HiscoreClient hiscoreClient)
 	{
 		this.hiscoreClient = hiscoreClient;
 		hiscoreCache = CacheBuilder.newBuilder()
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.swing.SwingUtilities;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.WidgetLoaded;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ExternalPluginsChanged;
+import net.runelite.client.events.PluginChanged;
+
+/**
+ * Starts dormant plugins when one of their {@link PluginDescriptor} activation triggers fires, and stops them
+ * again once they have been idle for their activation idle timeout.
+ */
+@Singleton
+@Slf4j
+public class PluginActivator
+{
+	private static final int TICKS_PER_MINUTE = 100;
+
+	private final Client client;
+	private final EventBus eventBus;
+	private final PluginManager pluginManager;
+
+	private final List<LazyPlugin> lazyPlugins = new ArrayList<>();
+	private final Map<Plugin, LazyPlugin> lazyPluginMap = new HashMap<>();
+	private final List<EventBus.Subscriber> eventTriggers = new ArrayList<>();
+	/**
+	 * Plugins with a start or stop queued on the EDT
+	 */
+	private final Set<Plugin> pending = ConcurrentHashMap.newKeySet();
+	/**
+	 * Game ticks seen, which idle timeouts are measured in
+	 */
+	private volatile int tickCount;
+
+	private static class LazyPlugin
+	{
+		private final Plugin plugin;
+		private final PluginDescriptor descriptor;
+		/**
+		 * Whether the plugin is running, kept from {@link PluginChanged} so event triggers can return
+		 * without looking the plugin up
+		 */
+		private volatile boolean active;
+		/**
+		 * The tick one of the plugin's triggers last fired, or it was started
+		 */
+		private volatile int lastTriggered;
+
+		private LazyPlugin(Plugin plugin, PluginDescriptor descriptor)
+		{
+			this.plugin = plugin;
+			this.descriptor = descriptor;
+		}
+	}
+
+	@Inject
+	private PluginActivator(@Nullable Client client, EventBus eventBus, PluginManager pluginManager)
+	{
+		this.client = client;
+		this.eventBus = eventBus;
+		this.pluginManager = pluginManager;
+	}
+
+	public void start()
+	{
+		eventBus.register(this);
+		updateTriggers();
+	}
+
+	@Subscribe
+	public void onExternalPluginsChanged(ExternalPluginsChanged externalPluginsChanged)
+	{
+		updateTriggers();
+	}
+
+	@Subscribe
+	public synchronized void onPluginChanged(PluginChanged pluginChanged)
+	{
+		final LazyPlugin lazyPlugin = lazyPluginMap.get(pluginChanged.getPlugin());
+		if (lazyPlugin != null)
+		{
+			// starting the plugin, by a trigger or by enabling it in the config panel, restarts its idle timeout
+			lazyPlugin.lastTriggered = tickCount;
+			lazyPlugin.active = pluginChanged.isLoaded();
+		}
+	}
+
+	private synchronized void updateTriggers()
+	{
+		eventTriggers.forEach(eventBus::unregister);
+		eventTriggers.clear();
+		lazyPlugins.clear();
+		lazyPluginMap.clear();
+
+		for (Plugin plugin : pluginManager.getTriggeredPlugins())
+		{
+			final LazyPlugin lazyPlugin = new LazyPlugin(plugin, plugin.getClass().getAnnotation(PluginDescriptor.class));
+			lazyPlugin.active = pluginManager.isPluginActive(plugin);
+			lazyPlugin.lastTriggered = tickCount;
+			lazyPlugins.add(lazyPlugin);
+			lazyPluginMap.put(plugin, lazyPlugin);
+			for (Class<?> eventClass : lazyPlugin.descriptor.activationEvents())
+			{
+				eventTriggers.add(eventBus.register(eventClass, e -> trigger(lazyPlugin), 0));
+			}
+		}
+
+		log.debug("{} plugins are activated by triggers", lazyPlugins.size());
+	}
+
+	@Subscribe
+	public synchronized void onGameTick(GameTick gameTick)
+	{
+		final int tick = ++tickCount;
+		final int[] regions = client.getMapRegions();
+		for (LazyPlugin lazyPlugin : lazyPlugins)
+		{
+			final PluginDescriptor descriptor = lazyPlugin.descriptor;
+			if (isInRegion(descriptor, regions) || isWidgetOpen(descriptor))
+			{
+				trigger(lazyPlugin);
+			}
+			else if (lazyPlugin.active && descriptor.activationIdleTimeout() > 0
+				&& tick - lazyPlugin.lastTriggered >= descriptor.activationIdleTimeout() * TICKS_PER_MINUTE)
+			{
+				deactivate(lazyPlugin.plugin);
+			}
+		}
+	}
+
+	@Subscribe
+	public synchronized void onWidgetLoaded(WidgetLoaded widgetLoaded)
+	{
+		for (LazyPlugin lazyPlugin : lazyPlugins)
+		{
+			for (int groupId : lazyPlugin.descriptor.activationWidgets())
+			{
+				if (groupId == widgetLoaded.getGroupId())
+				{
+					trigger(lazyPlugin);
+				}
+			}
+		}
+	}
+
+	private void trigger(LazyPlugin lazyPlugin)
+	{
+		lazyPlugin.lastTriggered = tickCount;
+		if (lazyPlugin.active)
+		{
+			return;
+		}
+
+		final Plugin plugin = lazyPlugin.plugin;
+		if (pluginManager.isPluginActive(plugin) || !pluginManager.isPluginEnabled(plugin) || !pending.add(plugin))
+		{
+			return;
+		}
+
+		SwingUtilities.invokeLater(() ->
+		{
+			pending.remove(plugin);
+			try
+			{
+				if (pluginManager.startPlugin(plugin))
+				{
+					log.debug("Activated plugin {}", plugin.getClass().getSimpleName());
+				}
+			}
+			catch (PluginInstantiationException ex)
+			{
+				log.warn("Unable to activate plugin {}", plugin.getClass().getSimpleName(), ex);
+			}
+		});
+	}
+
+	private void deactivate(Plugin plugin)
+	{
+		if (!pending.add(plugin))
+		{
+			return;
+		}
+
+		SwingUtilities.invokeLater(() ->
+		{
+			pending.remove(plugin);
+			try
+			{
+				if (pluginManager.stopPlugin(plugin))
+				{
+					log.debug("Deactivated idle plugin {}", plugin.getClass().getSimpleName());
+				}
+			}
+			catch (PluginInstantiationException ex)
+			{
+				log.warn("Unable to deactivate plugin {}", plugin.getClass().getSimpleName(), ex);
+			}
+		});
+	}
+
+	private static boolean isInRegion(PluginDescriptor descriptor, int[] regions)
+	{
+		if (regions == null)
+		{
+			return false;
+		}
+
+		for (int activationRegion : descriptor.activationRegions())
+		{
+			for (int region : regions)
+			{
+				if (region == activationRegion)
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean isWidgetOpen(PluginDescriptor descriptor)
+	{
+		for (int groupId : descriptor.activationWidgets())
+		{
+			if (client.getWidget(groupId, 0) != null)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+}
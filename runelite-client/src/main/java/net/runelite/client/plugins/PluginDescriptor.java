@@ -80,4 +80,30 @@ public @interface PluginDescriptor
 	boolean loadWhenOutdated() default false;
 
 	boolean loadInSafeMode() default true;
+
+	/**
+	 * Map regions this plugin is needed in. Plugins with activation regions, widgets or events are kept
+	 * dormant, enabled but not started, until the player is near one of their regions, one of their
+	 * interfaces is open, or one of their events is posted. Activation triggers are ignored on plugins
+	 * which other plugins depend on.
+	 */
+	int[] activationRegions() default {};
+
+	/**
+	 * Interface group ids which activate this plugin while they are open. See {@link #activationRegions()}.
+	 */
+	int[] activationWidgets() default {};
+
+	/**
+	 * Event types which activate this plugin when posted. See {@link #activationRegions()}.
+	 * The event which activates the plugin is not delivered to it.
+	 */
+	Class<?>[] activationEvents() default {};
+
+	/**
+	 * How many minutes an activated plugin may go without any of its activation triggers firing before it
+	 * is stopped and returns to being dormant. 0 keeps the plugin running once it has been activated.
+	 * This is measured in game ticks, so time spent logged out does not count.
+	 */
+	int activationIdleTimeout() default 0;
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The plugin index generated at build time by the plugin-processor annotation processor. It lists the core
+ * plugins with their descriptors, dependencies, subscribers and scheduled methods, so they can be loaded
+ * without scanning the classpath.
+ */
+@Slf4j
+class PluginIndex
+{
+	static final String INDEX = "net/runelite/client/plugins/plugins.index";
+
+	@RequiredArgsConstructor
+	@Getter
+	static class Entry
+	{
+		private final String className;
+		private final String name;
+		private final String configName;
+		private final boolean developerPlugin;
+		private final boolean loadWhenOutdated;
+		private final boolean loadInSafeMode;
+		private final List<String> dependencies = new ArrayList<>();
+		/**
+		 * Subscriber method names and the event classes they subscribe to
+		 */
+		private final Map<String, String> subscribers = new LinkedHashMap<>();
+		private final List<String> scheduledMethods = new ArrayList<>();
+	}
+
+	/**
+	 * Read the plugin indexes visible to a class loader
+	 *
+	 * @param classLoader
+	 * @return the indexed plugins, or null if there is no index
+	 * @throws IOException
+	 */
+	@Nullable
+	static Collection<Entry> load(ClassLoader classLoader) throws IOException
+	{
+		final Enumeration<URL> urls = classLoader.getResources(INDEX);
+		if (!urls.hasMoreElements())
+		{
+			return null;
+		}
+
+		final Map<String, Entry> entries = new LinkedHashMap<>();
+		while (urls.hasMoreElements())
+		{
+			final URL url = urls.nextElement();
+			try (InputStream in = url.openStream())
+			{
+				read(in, entries);
+			}
+		}
+		return entries.values();
+	}
+
+	static void read(InputStream in, Map<String, Entry> entries) throws IOException
+	{
+		final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		String line;
+		while ((line = reader.readLine()) != null)
+		{
+			final String[] fields = line.split("\t");
+			if (fields[0].equals("plugin") && fields.length == 7)
+			{
+				entries.put(fields[1], new Entry(fields[1], fields[2], fields[3],
+					Boolean.parseBoolean(fields[4]), Boolean.parseBoolean(fields[5]), Boolean.parseBoolean(fields[6])));
+				continue;
+			}
+
+			final Entry entry = fields.length > 2 ? entries.get(fields[1]) : null;
+			if (entry == null)
+			{
+				log.debug("Unknown plugin index record: {}", line);
+				continue;
+			}
+
+			switch (fields[0])
+			{
+				case "dependency":
+					entry.dependencies.add(fields[2]);
+					break;
+				case "subscribe":
+					entry.subscribers.put(fields[2], fields.length > 3 ? fields[3] : null);
+					break;
+				case "schedule":
+					entry.scheduledMethods.add(fields[2]);
+					break;
+				default:
+					log.debug("Unknown plugin index record: {}", line);
+			}
+		}
+	}
+}
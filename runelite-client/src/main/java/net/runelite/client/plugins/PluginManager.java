@@ -32,6 +32,7 @@ import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Binder;
 import com.google.inject.CreationException;
 import com.google.inject.Injector;
@@ -49,12 +50,18 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
@@ -75,6 +82,7 @@ import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.task.Schedule;
 import net.runelite.client.task.ScheduledMethod;
 import net.runelite.client.task.Scheduler;
+import net.runelite.client.timing.Timings;
 import net.runelite.client.ui.SplashScreen;
 import net.runelite.client.util.GameEventManager;
 import net.runelite.client.util.ReflectUtil;
@@ -88,6 +96,10 @@ public class PluginManager
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
+	/**
+	 * How long the EDT may spend starting plugins before it is given back to repaint the splash screen
+	 */
+	private static final long START_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
 
 	private final boolean developerMode;
 	private final boolean safeMode;
@@ -95,6 +107,7 @@ public class PluginManager
 	private final Scheduler scheduler;
 	private final ConfigManager configManager;
 	private final Provider<GameEventManager> sceneTileManager;
+	private final Timings timings;
 	private final List<Plugin> plugins = new CopyOnWriteArrayList<>();
 	private final List<Plugin> activePlugins = new CopyOnWriteArrayList<>();
 
@@ -109,7 +122,8 @@ public class PluginManager
 		final EventBus eventBus,
 		final Scheduler scheduler,
 		final ConfigManager configManager,
-		final Provider<GameEventManager> sceneTileManager)
+		final Provider<GameEventManager> sceneTileManager,
+		final Timings timings)
 	{
 		this.developerMode = developerMode;
 		this.safeMode = safeMode;
@@ -117,6 +131,7 @@ public class PluginManager
 		this.scheduler = scheduler;
 		this.configManager = configManager;
 		this.sceneTileManager = sceneTileManager;
+		this.timings = timings;
 	}
 
 	@Subscribe
@@ -130,7 +145,9 @@ public class PluginManager
 		loadDefaultPluginConfiguration(null);
 		SwingUtilities.invokeLater(() ->
 		{
-			for (Plugin plugin : getPlugins())
+			final Collection<Plugin> loadedPlugins = getPlugins();
+			final Set<Class<?>> dependencies = getDependencies(loadedPlugins);
+			for (Plugin plugin : loadedPlugins)
 			{
 				try
 				{
@@ -140,7 +157,7 @@ public class PluginManager
 						{
 							stopPlugin(plugin);
 						}
-						else
+						else if (!isStartedByTriggers(plugin, dependencies))
 						{
 							startPlugin(plugin);
 						}
@@ -228,14 +245,26 @@ public class PluginManager
 
 	public void startPlugins()
 	{
-		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
-		int loaded = 0;
-		for (Plugin plugin : scannedPlugins)
+		final List<Plugin> scannedPlugins = new ArrayList<>(plugins);
+		final Set<Class<?>> dependencies = getDependencies(scannedPlugins);
+
+		final long start = System.nanoTime();
+		// start plugins on the EDT in batches, rather than one EDT round trip per plugin
+		final int[] next = {0};
+		while (next[0] < scannedPlugins.size())
 		{
-			try
+			invokeAndWait(() ->
 			{
-				SwingUtilities.invokeAndWait(() ->
+				final long batchStart = System.nanoTime();
+				do
 				{
+					final Plugin plugin = scannedPlugins.get(next[0]++);
+					if (isStartedByTriggers(plugin, dependencies))
+					{
+						// started by the PluginActivator when one of its triggers fires
+						continue;
+					}
+
 					try
 					{
 						startPlugin(plugin);
@@ -245,36 +274,102 @@ public class PluginManager
 						log.warn("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
 						plugins.remove(plugin);
 					}
-				});
-			}
-			catch (InterruptedException | InvocationTargetException e)
-			{
-				throw new RuntimeException(e);
-			}
+				}
+				while (next[0] < scannedPlugins.size() && System.nanoTime() - batchStart < START_BATCH_NANOS);
+			});
 
-			loaded++;
-			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
+			SplashScreen.stage(.80, 1, null, "Starting plugins", next[0], scannedPlugins.size(), false);
 		}
 
+		log.debug("Started {} plugins in {}ms", scannedPlugins.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
 		for (Plugin plugin : plugins)
 		{
 			ReflectUtil.queueInjectorAnnotationCacheInvalidation(plugin.injector);
 		}
 	}
 
+	private static void invokeAndWait(Runnable r)
+	{
+		try
+		{
+			SwingUtilities.invokeAndWait(r);
+		}
+		catch (InterruptedException | InvocationTargetException e)
+		{
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static ExecutorService createExecutor()
+	{
+		return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactoryBuilder()
+			.setNameFormat("plugin-loader-%d")
+			.setDaemon(true)
+			.build());
+	}
+
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+		List<Class<?>> plugins = loadIndexedPlugins();
+		if (plugins == null)
+		{
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+
+			plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+				.map(ClassInfo::load)
+				.collect(Collectors.toList());
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
 	}
 
+	/**
+	 * Load the core plugin classes listed in the plugin index generated at build time. This only loads
+	 * the plugin classes themselves, instead of every class in the plugin package.
+	 *
+	 * @return the plugin classes, or null if there is no usable index and the classpath should be scanned
+	 * @throws IOException
+	 */
+	private List<Class<?>> loadIndexedPlugins() throws IOException
+	{
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final Collection<PluginIndex.Entry> index = PluginIndex.load(classLoader);
+		if (index == null)
+		{
+			log.debug("No plugin index, scanning the classpath for plugins");
+			return null;
+		}
+
+		final List<Class<?>> plugins = new ArrayList<>(index.size());
+		for (PluginIndex.Entry entry : index)
+		{
+			if (!entry.getClassName().startsWith(PLUGIN_PACKAGE + ".")
+				// these would be skipped by loadPlugins, so don't bother loading them
+				|| (entry.isDeveloperPlugin() && !developerMode)
+				|| (!entry.isLoadWhenOutdated() && isOutdated))
+			{
+				continue;
+			}
+
+			try
+			{
+				plugins.add(classLoader.loadClass(entry.getClassName()));
+			}
+			catch (ClassNotFoundException ex)
+			{
+				log.warn("Plugin index is out of date, scanning the classpath for plugins", ex);
+				return null;
+			}
+		}
+
+		log.debug("Loaded {} plugins from the plugin index", plugins.size());
+		return plugins;
+	}
+
 	public void loadSideLoadPlugins()
 	{
 		if (!developerMode)
@@ -382,30 +477,64 @@ public class PluginManager
 
 		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
 
-		int loaded = 0;
-		List<Plugin> newPlugins = new ArrayList<>();
-		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
+		// the plugins which can be depended on, including already loaded plugins
+		final Map<Class<?>, Plugin> instantiated = new ConcurrentHashMap<>();
+		for (Plugin plugin : this.plugins)
 		{
-			Plugin plugin;
-			try
-			{
-				plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
-				newPlugins.add(plugin);
-				this.plugins.add(plugin);
-			}
-			catch (PluginInstantiationException ex)
+			instantiated.put(plugin.getClass(), plugin);
+		}
+
+		// instantiate plugins concurrently, each once the plugins it depends on have been instantiated
+		final Map<Class<? extends Plugin>, CompletableFuture<Plugin>> futures = new HashMap<>();
+		final ExecutorService executor = createExecutor();
+		try
+		{
+			for (Class<? extends Plugin> pluginClazz : sortedPlugins)
 			{
-				log.warn("Error instantiating plugin!", ex);
+				final CompletableFuture<?>[] dependencies = graph.predecessors(pluginClazz).stream()
+					.map(futures::get)
+					.toArray(CompletableFuture[]::new);
+				futures.put(pluginClazz, CompletableFuture.allOf(dependencies).thenApplyAsync(v ->
+				{
+					Plugin plugin = null;
+					try
+					{
+						plugin = instantiate(instantiated, (Class<Plugin>) pluginClazz);
+						instantiated.put(pluginClazz, plugin);
+					}
+					catch (PluginInstantiationException ex)
+					{
+						log.warn("Error instantiating plugin!", ex);
+					}
+					return plugin;
+				}, executor));
 			}
 
-			loaded++;
-			if (onPluginLoaded != null)
+			// keep the plugins in dependency order, so they are started after their dependencies. Progress is
+			// reported from this thread as each is joined, rather than from the loader threads.
+			int loaded = 0;
+			List<Plugin> newPlugins = new ArrayList<>();
+			for (Class<? extends Plugin> pluginClazz : sortedPlugins)
 			{
-				onPluginLoaded.accept(loaded, sortedPlugins.size());
+				final Plugin plugin = futures.get(pluginClazz).join();
+				if (plugin != null)
+				{
+					newPlugins.add(plugin);
+				}
+
+				loaded++;
+				if (onPluginLoaded != null)
+				{
+					onPluginLoaded.accept(loaded, sortedPlugins.size());
+				}
 			}
+			this.plugins.addAll(newPlugins);
+			return newPlugins;
+		}
+		finally
+		{
+			executor.shutdown();
 		}
-
-		return newPlugins;
 	}
 
 	public boolean startPlugin(Plugin plugin) throws PluginInstantiationException
@@ -435,9 +564,15 @@ public class PluginManager
 
 		try
 		{
+			final long start = System.nanoTime();
 			plugin.startUp();
+			final long time = System.nanoTime() - start;
 
-			log.debug("Plugin {} is now running", plugin.getClass().getSimpleName());
+			if (timings != null)
+			{
+				timings.histogram(Timings.Category.PLUGIN_START, plugin.getClass()).record(time);
+			}
+			log.debug("Plugin {} is now running, started up in {}ms", plugin.getClass().getSimpleName(), TimeUnit.NANOSECONDS.toMillis(time));
 			if (!isOutdated && sceneTileManager != null)
 			{
 				final GameEventManager gameEventManager = this.sceneTileManager.get();
@@ -518,18 +653,72 @@ public class PluginManager
 		return value != null ? Boolean.parseBoolean(value) : pluginDescriptor.enabledByDefault();
 	}
 
-	private Plugin instantiate(List<Plugin> scannedPlugins, Class<Plugin> clazz) throws PluginInstantiationException
+	public boolean isPluginActive(Plugin plugin)
 	{
+		return activePlugins.contains(plugin);
+	}
+
+	/**
+	 * Get the plugins which are kept dormant until one of their activation triggers fires, rather than started with
+	 * the client
+	 */
+	List<Plugin> getTriggeredPlugins()
+	{
+		final Collection<Plugin> loadedPlugins = getPlugins();
+		final Set<Class<?>> dependencies = getDependencies(loadedPlugins);
+		return loadedPlugins.stream()
+			.filter(plugin -> isStartedByTriggers(plugin, dependencies))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Whether a plugin is kept dormant until one of its activation triggers fires, rather than started when it is
+	 * loaded or enabled
+	 */
+	public boolean isStartedByTriggers(Plugin plugin)
+	{
+		return isStartedByTriggers(plugin, getDependencies(getPlugins()));
+	}
+
+	/**
+	 * Plugins which other plugins depend on ignore their activation triggers, as they must be running before
+	 * their dependents
+	 */
+	private static boolean isStartedByTriggers(Plugin plugin, Set<Class<?>> dependencies)
+	{
+		final PluginDescriptor descriptor = plugin.getClass().getAnnotation(PluginDescriptor.class);
+		return (descriptor.activationRegions().length > 0
+			|| descriptor.activationWidgets().length > 0
+			|| descriptor.activationEvents().length > 0)
+			&& !dependencies.contains(plugin.getClass());
+	}
+
+	private static Set<Class<?>> getDependencies(Collection<Plugin> plugins)
+	{
+		final Set<Class<?>> dependencies = new HashSet<>();
+		for (Plugin plugin : plugins)
+		{
+			for (PluginDependency dependency : plugin.getClass().getAnnotationsByType(PluginDependency.class))
+			{
+				dependencies.add(dependency.value());
+			}
+		}
+		return dependencies;
+	}
+
+	private Plugin instantiate(Map<Class<?>, Plugin> scannedPlugins, Class<Plugin> clazz) throws PluginInstantiationException
+	{
+		final long start = System.nanoTime();
 		PluginDependency[] pluginDependencies = clazz.getAnnotationsByType(PluginDependency.class);
 		List<Plugin> deps = new ArrayList<>();
 		for (PluginDependency pluginDependency : pluginDependencies)
 		{
-			Optional<Plugin> dependency = scannedPlugins.stream().filter(p -> p.getClass() == pluginDependency.value()).findFirst();
-			if (!dependency.isPresent())
+			Plugin dependency = scannedPlugins.get(pluginDependency.value());
+			if (dependency == null)
 			{
 				throw new PluginInstantiationException("Unmet dependency for " + clazz.getSimpleName() + ": " + pluginDependency.value().getSimpleName());
 			}
-			deps.add(dependency.get());
+			deps.add(dependency);
 		}
 
 		Plugin plugin;
@@ -588,7 +777,12 @@ public class PluginManager
 			throw new PluginInstantiationException(ex);
 		}
 
-		log.debug("Loaded plugin {}", clazz.getSimpleName());
+		final long time = System.nanoTime() - start;
+		if (timings != null)
+		{
+			timings.histogram(Timings.Category.PLUGIN_LOAD, clazz).record(time);
+		}
+		log.debug("Loaded plugin {} in {}ms", clazz.getSimpleName(), TimeUnit.NANOSECONDS.toMillis(time));
 		return plugin;
 	}
 
@@ -600,6 +794,11 @@ public class PluginManager
 	public void remove(Plugin plugin)
 	{
 		plugins.remove(plugin);
+
+		if (timings != null)
+		{
+			timings.remove(plugin.getClass());
+		}
 	}
 
 	public Collection<Plugin> getPlugins()
@@ -201,6 +201,8 @@ public class AttackStylesPlugin extends Plugin
 	{
 		if (event.getGroup().equals("attackIndicator"))
 		{
+			overlay.markDirty();
+
 			boolean enabled = Boolean.TRUE.toString().equals(event.getNewValue());
 			switch (event.getKey())
 			{
@@ -300,6 +302,7 @@ public class AttackStylesPlugin extends Plugin
 			}
 		}
 		updateWidgetsToHide(config.removeWarnedStyles());
+		overlay.markDirty();
 	}
 
 	private void updateWidgetsToHide(boolean enabled)
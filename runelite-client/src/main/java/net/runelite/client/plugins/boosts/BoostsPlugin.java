@@ -169,14 +169,9 @@ public class BoostsPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
+	@Subscribe(key = "boosts")
 	public void onConfigChanged(ConfigChanged event)
 	{
-		if (!event.getGroup().equals("boosts"))
-		{
-			return;
-		}
-
 		updateShownSkills();
 
 		if (config.displayNextBuffChange() == BoostsConfig.DisplayChangeMode.NEVER)
@@ -674,6 +674,7 @@ class ProfilePanel extends PluginPanel
 		{
 			// save config to disk so the export copies the full config
 			configManager.sendConfig();
+			ProfileManager.compactProfileConfig(profile);
 
 			File source = ProfileManager.profileConfigFile(profile);
 			if (!source.exists())
@@ -728,6 +729,7 @@ class ProfilePanel extends PluginPanel
 		{
 			// save config to disk so the clone copies the full config
 			configManager.sendConfig();
+			ProfileManager.compactProfileConfig(profile);
 
 			try (ProfileManager.Lock lock = profileManager.lock())
 			{
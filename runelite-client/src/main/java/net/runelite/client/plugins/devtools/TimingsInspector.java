@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.task.ExecutorTiers;
+import net.runelite.client.timing.TimingHistogram;
+import net.runelite.client.timing.Timings;
+
+@Singleton
+class TimingsInspector extends DevToolsFrame
+{
+	private static final int MAX_ROWS = 100;
+	private static final int REFRESH_MS = 1000;
+
+	private static final String[] COLUMNS = {"Type", "Name", "Calls", "Total ms", "Mean us", "p99 us", "Max us"};
+
+	private final Timings timings;
+	private final ExecutorTiers executorTiers;
+	private final ClientThread clientThread;
+	private final JLabel executors = new JLabel();
+	private final TimingsTableModel model = new TimingsTableModel();
+	private final Timer timer = new Timer(REFRESH_MS, e -> refresh());
+
+	@Inject
+	TimingsInspector(Timings timings, ExecutorTiers executorTiers, ClientThread clientThread)
+	{
+		this.timings = timings;
+		this.executorTiers = executorTiers;
+		this.clientThread = clientThread;
+
+		setTitle("RuneLite Timings");
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(model);
+		table.getColumnModel().getColumn(1).setPreferredWidth(300);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(800, 500));
+		add(scrollPane, BorderLayout.CENTER);
+
+		executors.setBorder(new EmptyBorder(4, 4, 4, 4));
+		add(executors, BorderLayout.NORTH);
+
+		final JCheckBox enabled = new JCheckBox("Enabled", timings.isEnabled());
+		enabled.addActionListener(e -> timings.setEnabled(enabled.isSelected()));
+
+		final JButton reset = new JButton("Reset");
+		reset.addActionListener(e ->
+		{
+			timings.reset();
+			refresh();
+		});
+
+		final JPanel buttons = new JPanel();
+		buttons.setLayout(new FlowLayout());
+		buttons.add(enabled);
+		buttons.add(reset);
+		add(buttons, BorderLayout.SOUTH);
+
+		pack();
+	}
+
+	@Override
+	public void open()
+	{
+		refresh();
+		timer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		timer.stop();
+		super.close();
+	}
+
+	private void refresh()
+	{
+		// the top offenders by total time spent
+		model.rows = timings.getHistograms().stream()
+			.filter(h -> h.getCount() > 0)
+			.sorted(Comparator.comparingLong(TimingHistogram::getTotal).reversed())
+			.limit(MAX_ROWS)
+			.map(TimingsInspector::row)
+			.collect(Collectors.toList());
+		model.fireTableDataChanged();
+
+		// queued client thread invokes, and busy threads and tasks waiting for a thread in each executor tier
+		final String invokes = String.format("client thread: %d queued, %d deferred, %d frames over budget",
+			clientThread.getQueueSize(), clientThread.getDeferredCount(), clientThread.getOverBudgetCount());
+		executors.setText(Stream.concat(Stream.of(invokes), executorTiers.getExecutors().stream()
+			.map(e -> String.format("%s: %d/%d busy, %d waiting, %d queued, %d rejected%s",
+				e.getTier().getName(), e.getActiveCount(), e.getTier().getThreads(), e.getWaitingCount(),
+				e.getQueue().size(), e.getRejectedCount(), e.isSaturated() ? " (saturated)" : "")))
+			.collect(Collectors.joining(" | ")));
+	}
+
+	private static Object[] row(TimingHistogram h)
+	{
+		return new Object[]
+			{
+				h.getCategory().getName(),
+				h.getName(),
+				h.getCount(),
+				h.getTotal() / 1_000_000,
+				h.getMean() / 1_000,
+				h.getPercentile(0.99) / 1_000,
+				h.getMax() / 1_000
+			};
+	}
+
+	private static class TimingsTableModel extends AbstractTableModel
+	{
+		private List<Object[]> rows = List.of();
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			return col < 2 ? String.class : Long.class;
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return rows.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public Object getValueAt(int row, int col)
+		{
+			return rows.get(row)[col];
+		}
+	}
+}
@@ -100,14 +100,9 @@ public class ImplingsPlugin extends Plugin
 		overlayManager.remove(overlay);
 	}
 
-	@Subscribe
+	@Subscribe(key = ImplingsConfig.GROUP)
 	private void onConfigChanged(ConfigChanged event)
 	{
-		if (!event.getGroup().equals(ImplingsConfig.GROUP))
-		{
-			return;
-		}
-
 		npcOverlayService.rebuild();
 	}
 
@@ -191,14 +191,9 @@ public class PoisonPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
+	@Subscribe(key = PoisonConfig.GROUP)
 	public void onConfigChanged(ConfigChanged event)
 	{
-		if (!event.getGroup().equals(PoisonConfig.GROUP))
-		{
-			return;
-		}
-
 		if (!config.showInfoboxes() && infobox != null)
 		{
 			infoBoxManager.removeInfoBox(infobox);
@@ -64,13 +64,15 @@ import net.runelite.client.util.RSTimeUnit;
 	name = "Pyramid Plunder",
 	description = "Show custom overlay for Pyramid Plunder",
 	tags = {"minigame", "thieving", "pp"},
-	enabledByDefault = false
+	enabledByDefault = false,
+	activationRegions = PyramidPlunderPlugin.PYRAMID_PLUNDER_REGION,
+	activationIdleTimeout = 5
 )
 public class PyramidPlunderPlugin extends Plugin
 {
 	// Total time of a pyramid plunder game (5 minutes)
 	private static final Duration PYRAMID_PLUNDER_DURATION = Duration.of(501, RSTimeUnit.GAME_TICKS);
-	private static final int PYRAMID_PLUNDER_REGION = 7749;
+	static final int PYRAMID_PLUNDER_REGION = 7749;
 
 	static final Set<Integer> TOMB_DOOR_WALL_IDS = ImmutableSet.of(NullObjectID.NULL_26618, NullObjectID.NULL_26619, NullObjectID.NULL_26620, NullObjectID.NULL_26621);
 	static final int TOMB_DOOR_CLOSED_ID = ObjectID.TOMB_DOOR_20948;
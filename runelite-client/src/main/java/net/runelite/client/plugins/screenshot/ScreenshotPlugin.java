@@ -42,6 +42,7 @@ import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.swing.SwingUtilities;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -83,6 +84,7 @@ import net.runelite.client.game.SpriteManager;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.task.ExecutorTiers;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.DrawManager;
@@ -188,6 +190,7 @@ public class ScreenshotPlugin extends Plugin
 	private DrawManager drawManager;
 
 	@Inject
+	@Named(ExecutorTiers.UI)
 	private ScheduledExecutorService executor;
 
 	@Inject
@@ -91,14 +91,9 @@ public class StretchedModePlugin extends Plugin
 		client.invalidateStretching(true);
 	}
 
-	@Subscribe
+	@Subscribe(key = "stretchedmode")
 	public void onConfigChanged(ConfigChanged event)
 	{
-		if (!event.getGroup().equals("stretchedmode"))
-		{
-			return;
-		}
-
 		updateConfig();
 	}
 
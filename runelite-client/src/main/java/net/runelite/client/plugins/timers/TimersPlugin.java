@@ -560,14 +560,9 @@ public class TimersPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
+	@Subscribe(key = TimersConfig.GROUP)
 	public void onConfigChanged(ConfigChanged event)
 	{
-		if (!event.getGroup().equals(TimersConfig.GROUP))
-		{
-			return;
-		}
-
 		if (!config.showHomeMinigameTeleports())
 		{
 			removeGameTimer(HOME_TELEPORT);
@@ -178,14 +178,9 @@ public class TimeTrackingPlugin extends Plugin
 		farmingContractManager.setInfoBox(null);
 	}
 
-	@Subscribe
+	@Subscribe(key = CONFIG_GROUP)
 	public void onConfigChanged(ConfigChanged e)
 	{
-		if (!e.getGroup().equals(CONFIG_GROUP))
-		{
-			return;
-		}
-
 		if (clockManager.getTimers().isEmpty() && e.getKey().equals(TIMERS))
 		{
 			clockManager.loadTimers();
@@ -48,6 +48,7 @@ import net.runelite.api.widgets.WidgetType;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.game.chatbox.ChatboxPanelManager;
 import net.runelite.client.game.chatbox.ChatboxTextInput;
+import net.runelite.client.task.ExecutorTiers;
 import net.runelite.client.ui.JagexColors;
 import net.runelite.client.util.LinkBrowser;
 import okhttp3.Call;
@@ -76,7 +77,7 @@ public class WikiSearchChatboxTextInput extends ChatboxTextInput
 
 	@Inject
 	public WikiSearchChatboxTextInput(ChatboxPanelManager chatboxPanelManager, ClientThread clientThread,
-		ScheduledExecutorService scheduledExecutorService, @Named("developerMode") final boolean developerMode,
+		@Named(ExecutorTiers.UI) ScheduledExecutorService scheduledExecutorService, @Named("developerMode") final boolean developerMode,
 		OkHttpClient okHttpClient, Gson gson)
 	{
 		super(chatboxPanelManager, clientThread);
@@ -82,12 +82,14 @@ import net.runelite.client.util.ColorUtil;
 @PluginDescriptor(
 	name = "Wintertodt",
 	description = "Show helpful information for the Wintertodt boss",
-	tags = {"minigame", "firemaking", "boss"}
+	tags = {"minigame", "firemaking", "boss"},
+	activationRegions = WintertodtPlugin.WINTERTODT_REGION,
+	activationIdleTimeout = 5
 )
 @Slf4j
 public class WintertodtPlugin extends Plugin
 {
-	private static final int WINTERTODT_REGION = 6462;
+	static final int WINTERTODT_REGION = 6462;
 
 	@Inject
 	private Notifier notifier;
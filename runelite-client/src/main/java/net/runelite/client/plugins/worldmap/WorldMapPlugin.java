@@ -182,14 +182,9 @@ public class WorldMapPlugin extends Plugin
 		woodcuttingLevel = 0;
 	}
 
-	@Subscribe
+	@Subscribe(key = CONFIG_KEY)
 	public void onConfigChanged(ConfigChanged event)
 	{
-		if (!event.getGroup().equals(CONFIG_KEY))
-		{
-			return;
-		}
-
 		updateShownIcons();
 	}
 
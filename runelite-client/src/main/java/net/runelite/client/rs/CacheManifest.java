@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.rs;
+
+import com.google.common.io.BaseEncoding;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records the results of verifying and hashing the client caches, so later launches can skip redoing it.
+ * <p>
+ * Each result is stored along with the size, modification time and file key of the cache it was computed
+ * from, and is discarded as soon as any of them no longer match the file on disk.
+ */
+@Slf4j
+class CacheManifest
+{
+	private final File file;
+	private final Properties properties = new Properties();
+
+	CacheManifest(File file)
+	{
+		this.file = file;
+
+		try (InputStream in = new FileInputStream(file))
+		{
+			properties.load(in);
+		}
+		catch (FileNotFoundException ex)
+		{
+			log.debug("No cache manifest");
+		}
+		catch (IOException | IllegalArgumentException ex)
+		{
+			log.warn("Unable to load cache manifest", ex);
+			properties.clear();
+		}
+	}
+
+	/**
+	 * Whether the jar signatures of a cache have been verified since it was last modified
+	 */
+	boolean isVerified(File cache)
+	{
+		return matches(cache) && properties.containsKey(cache.getName() + ".verified");
+	}
+
+	void setVerified(File cache)
+	{
+		update(cache);
+		properties.setProperty(cache.getName() + ".verified", "true");
+		save();
+	}
+
+	/**
+	 * Get the SHA-512 of a cache, if it has been recorded since the cache was last modified
+	 */
+	@Nullable
+	byte[] getHash(File cache)
+	{
+		String hash = properties.getProperty(cache.getName() + ".sha512");
+		return hash != null && matches(cache) ? BaseEncoding.base16().lowerCase().decode(hash) : null;
+	}
+
+	void setHash(File cache, byte[] hash)
+	{
+		update(cache);
+		properties.setProperty(cache.getName() + ".sha512", BaseEncoding.base16().lowerCase().encode(hash));
+		save();
+	}
+
+	private boolean matches(File cache)
+	{
+		String metadata = metadata(cache);
+		return metadata != null && metadata.equals(properties.getProperty(cache.getName() + ".metadata"));
+	}
+
+	/**
+	 * Drop the results recorded for an older version of a cache
+	 */
+	private void update(File cache)
+	{
+		if (!matches(cache))
+		{
+			String prefix = cache.getName() + ".";
+			properties.keySet().removeIf(key -> ((String) key).startsWith(prefix));
+
+			String metadata = metadata(cache);
+			if (metadata != null)
+			{
+				properties.setProperty(prefix + "metadata", metadata);
+			}
+		}
+	}
+
+	@Nullable
+	private static String metadata(File cache)
+	{
+		try
+		{
+			BasicFileAttributes attributes = Files.readAttributes(cache.toPath(), BasicFileAttributes.class);
+			return attributes.size() + ":" + attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS) + ":" + attributes.fileKey();
+		}
+		catch (IOException ex)
+		{
+			return null;
+		}
+	}
+
+	private void save()
+	{
+		File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+		try
+		{
+			try (OutputStream out = new FileOutputStream(tempFile))
+			{
+				properties.store(out, "RuneLite cache manifest");
+			}
+
+			try
+			{
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex)
+			{
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to save cache manifest", ex);
+		}
+	}
+}
@@ -28,10 +28,11 @@ package net.runelite.client.rs;
 
 import com.google.archivepatcher.applier.FileByFileV1DeltaApplier;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.hash.Hashing;
 import com.google.common.hash.HashingOutputStream;
-import com.google.common.io.ByteStreams;
 import com.google.common.io.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.applet.Applet;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
@@ -46,10 +47,17 @@ import java.nio.file.StandardOpenOption;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -80,9 +88,11 @@ import okhttp3.Response;
 public class ClientLoader implements Supplier<Applet>
 {
 	private static final int NUM_ATTEMPTS = 6;
+	private static final int LOADER_THREADS = 4;
 	private static File LOCK_FILE = new File(RuneLite.CACHE_DIR, "cache.lock");
 	private static File VANILLA_CACHE = new File(RuneLite.CACHE_DIR, "vanilla.cache");
 	private static File PATCHED_CACHE = new File(RuneLite.CACHE_DIR, "patched.cache");
+	private static File CACHE_MANIFEST = new File(RuneLite.CACHE_DIR, "cache.manifest");
 
 	private final OkHttpClient okHttpClient;
 	private final ClientConfigLoader clientConfigLoader;
@@ -92,6 +102,7 @@ public class ClientLoader implements Supplier<Applet>
 	private final String javConfigUrl;
 
 	private Object client;
+	private CacheManifest cacheManifest;
 
 	public ClientLoader(OkHttpClient okHttpClient, ClientUpdateCheckMode updateCheckMode, RuntimeConfigLoader runtimeConfigLoader, String javConfigUrl)
 	{
@@ -138,6 +149,8 @@ public class ClientLoader implements Supplier<Applet>
 				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
 				FileLock flock = lockfile.lock())
 			{
+				cacheManifest = new CacheManifest(CACHE_MANIFEST);
+
 				SplashScreen.stage(.05, null, "Downloading Old School RuneScape");
 				try
 				{
@@ -390,16 +403,24 @@ public class ClientLoader implements Supplier<Applet>
 					// intact before closing the server connection
 					if (!vanillaCacheIsInvalid)
 					{
-						try
+						if (cacheManifest.isVerified(VANILLA_CACHE))
 						{
-							// as with the request stream, its important to not early close vanilla too
-							JarInputStream vanillaCacheTest = new JarInputStream(Channels.newInputStream(vanilla));
-							verifyWholeJar(vanillaCacheTest, jagexCertificateChains);
+							log.debug("Vanilla cache is unchanged since it was last verified");
 						}
-						catch (Exception e)
+						else
 						{
-							log.warn("Failed to verify the vanilla cache", e);
-							vanillaCacheIsInvalid = true;
+							try
+							{
+								// as with the request stream, its important to not early close vanilla too
+								JarInputStream vanillaCacheTest = new JarInputStream(Channels.newInputStream(vanilla));
+								verifyWholeJar(vanillaCacheTest, jagexCertificateChains);
+								cacheManifest.setVerified(VANILLA_CACHE);
+							}
+							catch (Exception e)
+							{
+								log.warn("Failed to verify the vanilla cache", e);
+								vanillaCacheIsInvalid = true;
+							}
 						}
 					}
 
@@ -414,6 +435,7 @@ public class ClientLoader implements Supplier<Applet>
 						copyStream.skip(Long.MAX_VALUE); // write the trailer to the file too
 						out.flush();
 						vanilla.truncate(vanilla.position());
+						cacheManifest.setVerified(VANILLA_CACHE);
 					}
 					else
 					{
@@ -464,7 +486,7 @@ public class ClientLoader implements Supplier<Applet>
 			dis.readFully(appliedPatchHash);
 		}
 
-		byte[] vanillaCacheHash = Files.asByteSource(VANILLA_CACHE).hash(Hashing.sha512()).asBytes();
+		byte[] vanillaCacheHash = hash(VANILLA_CACHE);
 		if (!Arrays.equals(vanillaHash, vanillaCacheHash))
 		{
 			log.info("Client is outdated!");
@@ -474,7 +496,7 @@ public class ClientLoader implements Supplier<Applet>
 
 		if (PATCHED_CACHE.exists())
 		{
-			byte[] diskBytes = Files.asByteSource(PATCHED_CACHE).hash(Hashing.sha512()).asBytes();
+			byte[] diskBytes = hash(PATCHED_CACHE);
 			if (!Arrays.equals(diskBytes, appliedPatchHash))
 			{
 				log.warn("Cached patch hash mismatches, regenerating patch");
@@ -504,54 +526,31 @@ public class ClientLoader implements Supplier<Applet>
 			updateCheckMode = VANILLA;
 			return;
 		}
+
+		cacheManifest.setHash(PATCHED_CACHE, appliedPatchHash);
+	}
+
+	/**
+	 * Get the SHA-512 of a cache, reusing the hash from an earlier launch if the cache is unchanged since
+	 */
+	private byte[] hash(File cache) throws IOException
+	{
+		byte[] hash = cacheManifest.getHash(cache);
+		if (hash == null)
+		{
+			hash = Files.asByteSource(cache).hash(Hashing.sha512()).asBytes();
+			cacheManifest.setHash(cache, hash);
+		}
+		return hash;
 	}
 
 	private ClassLoader createJarClassLoader(File jar) throws IOException, ClassNotFoundException
 	{
 		try (JarFile jarFile = new JarFile(jar))
 		{
-			ClassLoader classLoader = new ClassLoader(ClientLoader.class.getClassLoader())
-			{
-				@Override
-				protected Class<?> findClass(String name) throws ClassNotFoundException
-				{
-					String entryName = name.replace('.', '/').concat(".class");
-					JarEntry jarEntry;
-
-					try
-					{
-						jarEntry = jarFile.getJarEntry(entryName);
-					}
-					catch (IllegalStateException ex)
-					{
-						throw new ClassNotFoundException(name, ex);
-					}
-
-					if (jarEntry == null)
-					{
-						throw new ClassNotFoundException(name);
-					}
+			JarClassLoader classLoader = new JarClassLoader(jarFile, ClientLoader.class.getClassLoader());
 
-					try
-					{
-						InputStream inputStream = jarFile.getInputStream(jarEntry);
-						if (inputStream == null)
-						{
-							throw new ClassNotFoundException(name);
-						}
-
-						byte[] bytes = ByteStreams.toByteArray(inputStream);
-						return defineClass(name, bytes, 0, bytes.length);
-					}
-					catch (IOException e)
-					{
-						throw new ClassNotFoundException(null, e);
-					}
-				}
-			};
-
-			// load all of the classes in this jar; after the jar is closed the classloader
-			// will no longer be able to look up classes
+			List<String> classNames = new ArrayList<>();
 			Enumeration<JarEntry> entries = jarFile.entries();
 			while (entries.hasMoreElements())
 			{
@@ -560,10 +559,57 @@ public class ClientLoader implements Supplier<Applet>
 				if (name.endsWith(".class"))
 				{
 					name = name.substring(0, name.length() - 6);
-					classLoader.loadClass(name.replace('/', '.'));
+					classNames.add(name.replace('/', '.'));
 				}
 			}
 
+			// load all of the classes in this jar; after the jar is closed the classloader
+			// will no longer be able to look up classes. The classes are split between several
+			// threads, and the class loader locks each class so it is only defined once.
+			long start = System.nanoTime();
+			int threads = Math.min(Runtime.getRuntime().availableProcessors(), LOADER_THREADS);
+			ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+				.setNameFormat("client-loader-%d")
+				.setDaemon(true)
+				.build());
+			try
+			{
+				List<Future<?>> futures = new ArrayList<>(threads);
+				for (int i = 0; i < threads; ++i)
+				{
+					final int offset = i;
+					futures.add(executor.submit(() ->
+					{
+						for (int j = offset; j < classNames.size(); j += threads)
+						{
+							classLoader.loadClass(classNames.get(j));
+						}
+						return null;
+					}));
+				}
+
+				for (Future<?> future : futures)
+				{
+					future.get();
+				}
+			}
+			catch (ExecutionException e)
+			{
+				Throwables.throwIfInstanceOf(e.getCause(), ClassNotFoundException.class);
+				Throwables.throwIfUnchecked(e.getCause());
+				throw new IOException(e.getCause());
+			}
+			catch (InterruptedException e)
+			{
+				throw new IOException(e);
+			}
+			finally
+			{
+				executor.shutdownNow();
+			}
+
+			log.debug("Loaded {} client classes in {}ms with {} threads", classNames.size(),
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), threads);
 			return classLoader;
 		}
 	}
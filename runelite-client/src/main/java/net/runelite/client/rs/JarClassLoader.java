@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.rs;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Loads classes from the game client jar. It is parallel capable, so the classes in the jar can be defined
+ * from several threads at once; each class loads its superclass and interfaces itself as it is defined.
+ * Once the jar is closed no further classes can be loaded.
+ */
+class JarClassLoader extends ClassLoader
+{
+	static
+	{
+		registerAsParallelCapable();
+	}
+
+	private final JarFile jarFile;
+
+	JarClassLoader(JarFile jarFile, ClassLoader parent)
+	{
+		super(parent);
+		this.jarFile = jarFile;
+	}
+
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException
+	{
+		String entryName = name.replace('.', '/').concat(".class");
+		JarEntry jarEntry;
+
+		try
+		{
+			jarEntry = jarFile.getJarEntry(entryName);
+		}
+		catch (IllegalStateException ex)
+		{
+			throw new ClassNotFoundException(name, ex);
+		}
+
+		if (jarEntry == null)
+		{
+			throw new ClassNotFoundException(name);
+		}
+
+		try (InputStream inputStream = jarFile.getInputStream(jarEntry))
+		{
+			if (inputStream == null)
+			{
+				throw new ClassNotFoundException(name);
+			}
+
+			byte[] bytes = ByteStreams.toByteArray(inputStream);
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+		catch (IOException e)
+		{
+			throw new ClassNotFoundException(null, e);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The background executor tiers. Each tier has its own threads and bounded queue, so that
+ * slow work in one tier can't hold up work in another.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum ExecutorTier
+{
+	/**
+	 * Blocking network and disk I/O, eg. loading item prices or hiscores
+	 */
+	IO("io", ExecutorTiers.IO, 4, 256),
+	/**
+	 * CPU bound work, eg. solving puzzles
+	 */
+	COMPUTE("compute", ExecutorTiers.COMPUTE, Math.max(1, Runtime.getRuntime().availableProcessors() - 1), 64),
+	/**
+	 * Work the user is waiting on, eg. searches and screenshots. This is single threaded so
+	 * tasks complete in the order they were submitted.
+	 */
+	UI("ui", ExecutorTiers.UI, 1, 64);
+
+	private final String name;
+	private final String bindingName;
+	private final int threads;
+	/**
+	 * The maximum number of queued tasks, including delayed and periodic tasks
+	 */
+	private final int queueSize;
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import net.runelite.client.timing.Timings;
+
+/**
+ * The executors for each {@link ExecutorTier}. They are injected as a
+ * {@link java.util.concurrent.ScheduledExecutorService} named with one of the tier binding names, eg.
+ * {@code @Named(ExecutorTiers.IO) ScheduledExecutorService executor}.
+ */
+public class ExecutorTiers
+{
+	public static final String IO = "ioExecutor";
+	public static final String COMPUTE = "computeExecutor";
+	public static final String UI = "uiExecutor";
+
+	private final Map<ExecutorTier, TieredExecutor> executors = new EnumMap<>(ExecutorTier.class);
+
+	public ExecutorTiers(Timings timings)
+	{
+		for (ExecutorTier tier : ExecutorTier.values())
+		{
+			executors.put(tier, new TieredExecutor(tier, timings));
+		}
+	}
+
+	public TieredExecutor get(ExecutorTier tier)
+	{
+		return executors.get(tier);
+	}
+
+	public Collection<TieredExecutor> getExecutors()
+	{
+		return Collections.unmodifiableCollection(executors.values());
+	}
+}
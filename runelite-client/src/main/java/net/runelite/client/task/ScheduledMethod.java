@@ -26,11 +26,14 @@ package net.runelite.client.task;
 
 import java.lang.reflect.Method;
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import net.runelite.client.timing.TimingHistogram;
 
 @RequiredArgsConstructor
 @ToString
@@ -44,4 +47,16 @@ public class ScheduledMethod
 	private final Runnable lambda;
 	@Setter
 	private Instant last = Instant.now();
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	TimingHistogram timing;
+	// next run time and period, in System.nanoTime() ns
+	@Getter(AccessLevel.PACKAGE)
+	long deadline;
+	@Getter(AccessLevel.NONE)
+	long period;
+	// set while an asynchronous run is in progress
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	final AtomicBoolean running = new AtomicBoolean();
 }
@@ -24,35 +24,65 @@
  */
 package net.runelite.client.task;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.timing.Timings;
 
 @Singleton
 @Slf4j
 public class Scheduler
 {
+	private static final int ASYNC_THREADS = 2;
+
 	private final List<ScheduledMethod> scheduledMethods = new CopyOnWriteArrayList<>();
 
+	// scheduled methods by next run time, so a tick only looks at the methods which are due. Guarded by this.
+	private final PriorityQueue<ScheduledMethod> deadlines = new PriorityQueue<>(Comparator.comparingLong(ScheduledMethod::getDeadline));
+
+	// asynchronous methods run on their own threads, rather than holding up the shared executor
+	private final ExecutorService executor = Executors.newFixedThreadPool(ASYNC_THREADS, new ThreadFactoryBuilder()
+		.setNameFormat("scheduler-%d")
+		.setDaemon(true)
+		.build());
+
 	@Inject
-	ScheduledExecutorService executor;
+	Timings timings;
 
 	public void addScheduledMethod(ScheduledMethod method)
 	{
+		final Schedule schedule = method.getSchedule();
+		method.period = Duration.of(schedule.period(), schedule.unit()).toNanos();
+		method.deadline = System.nanoTime() + method.period;
+		method.timing = timings.histogram(Timings.Category.SCHEDULED,
+			Timings.name(method.getObject().getClass()) + "." + method.getMethod().getName());
+
 		scheduledMethods.add(method);
+		synchronized (this)
+		{
+			deadlines.add(method);
+		}
 	}
 
 	public void removeScheduledMethod(ScheduledMethod method)
 	{
 		scheduledMethods.remove(method);
+		synchronized (this)
+		{
+			deadlines.remove(method);
+		}
 	}
 
 	public List<ScheduledMethod> getScheduledMethods()
@@ -62,37 +92,70 @@ public class Scheduler
 
 	public void tick()
 	{
-		Instant now = Instant.now();
+		final long now = System.nanoTime();
 
-		for (ScheduledMethod scheduledMethod : scheduledMethods)
+		ScheduledMethod scheduledMethod;
+		while ((scheduledMethod = pollDue(now)) != null)
 		{
-			Instant last = scheduledMethod.getLast();
+			final boolean asynchronous = scheduledMethod.getSchedule().asynchronous();
+			// an asynchronous method is not started again until its previous run finishes, and is
+			// retried once its next period has elapsed
+			if (asynchronous && !scheduledMethod.running.compareAndSet(false, true))
+			{
+				log.trace("Scheduled task still running: {}", scheduledMethod);
+				continue;
+			}
 
-			Duration difference = Duration.between(last, now);
+			log.trace("Scheduled task triggered: {}", scheduledMethod);
 
-			Schedule schedule = scheduledMethod.getSchedule();
-			Duration timeSinceRun = Duration.of(schedule.period(), schedule.unit());
+			scheduledMethod.setLast(Instant.now());
 
-			if (difference.compareTo(timeSinceRun) > 0)
+			if (asynchronous)
 			{
-				log.trace("Scheduled task triggered: {}", scheduledMethod);
-
-				scheduledMethod.setLast(now);
-
-				if (schedule.asynchronous())
-				{
-					executor.submit(() -> run(scheduledMethod));
-				}
-				else
+				final ScheduledMethod m = scheduledMethod;
+				executor.execute(() ->
 				{
-					run(scheduledMethod);
-				}
+					try
+					{
+						run(m);
+					}
+					finally
+					{
+						m.running.set(false);
+					}
+				});
+			}
+			else
+			{
+				run(scheduledMethod);
 			}
 		}
 	}
 
+	/**
+	 * Take the next method which is due, and reschedule it
+	 *
+	 * @param now
+	 * @return the method, or null if no methods are due
+	 */
+	private synchronized ScheduledMethod pollDue(long now)
+	{
+		final ScheduledMethod scheduledMethod = deadlines.peek();
+		if (scheduledMethod == null || now - scheduledMethod.deadline <= 0)
+		{
+			return null;
+		}
+
+		deadlines.poll();
+		scheduledMethod.deadline = now + scheduledMethod.period;
+		deadlines.add(scheduledMethod);
+		return scheduledMethod;
+	}
+
 	private void run(ScheduledMethod scheduledMethod)
 	{
+		final boolean timed = timings.isEnabled();
+		final long start = timed ? System.nanoTime() : 0L;
 		try
 		{
 			Runnable lambda = scheduledMethod.getLambda();
@@ -114,5 +177,12 @@ public class Scheduler
 		{
 			log.warn("error during scheduled task", ex);
 		}
+		finally
+		{
+			if (timed)
+			{
+				scheduledMethod.timing.record(System.nanoTime() - start);
+			}
+		}
 	}
 }
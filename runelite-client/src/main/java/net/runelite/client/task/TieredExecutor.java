@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.timing.TimingHistogram;
+import net.runelite.client.timing.Timings;
+
+/**
+ * A scheduled executor for an {@link ExecutorTier}, with a bounded queue. It records how long each
+ * task waited in the queue and how long it ran, by task class, and logs uncaught exceptions.
+ */
+@Slf4j
+public class TieredExecutor extends ScheduledThreadPoolExecutor
+{
+	@Getter
+	private final ExecutorTier tier;
+	private final Timings timings;
+	private final TimingHistogram queueWait;
+	private final Map<Class<?>, TaskTimings> taskTimings = new MapMaker().weakKeys().makeMap();
+	private final AtomicLong rejected = new AtomicLong();
+
+	TieredExecutor(ExecutorTier tier, Timings timings)
+	{
+		super(tier.getThreads(), new ThreadFactoryBuilder()
+			.setNameFormat(tier.getName() + "-executor-%d")
+			.setDaemon(true)
+			.build());
+		this.tier = tier;
+		this.timings = timings;
+		this.queueWait = timings.histogram(Timings.Category.QUEUE_WAIT, tier.getName() + " tier");
+	}
+
+	/**
+	 * Get the number of tasks which are due to run but are waiting for a thread
+	 *
+	 * @return
+	 */
+	public int getWaitingCount()
+	{
+		int waiting = 0;
+		for (Runnable r : getQueue())
+		{
+			if (((Delayed) r).getDelay(TimeUnit.NANOSECONDS) <= 0)
+			{
+				++waiting;
+			}
+		}
+		return waiting;
+	}
+
+	/**
+	 * Get the number of tasks rejected because the queue was full
+	 *
+	 * @return
+	 */
+	public long getRejectedCount()
+	{
+		return rejected.get();
+	}
+
+	/**
+	 * Whether every thread is busy and there are tasks waiting for one
+	 *
+	 * @return
+	 */
+	public boolean isSaturated()
+	{
+		return getActiveCount() >= tier.getThreads() && getWaitingCount() > 0;
+	}
+
+	@Override
+	protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task)
+	{
+		return decorate(runnable, task);
+	}
+
+	@Override
+	protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable, RunnableScheduledFuture<V> task)
+	{
+		return decorate(callable, task);
+	}
+
+	private <V> RunnableScheduledFuture<V> decorate(Object command, RunnableScheduledFuture<V> task)
+	{
+		// periodic tasks are requeued without being decorated again, so are never rejected here
+		if (getQueue().size() >= tier.getQueueSize())
+		{
+			rejected.incrementAndGet();
+			throw new RejectedExecutionException("Task " + command + " rejected from full " + tier.getName() + " executor");
+		}
+
+		final TaskTimings t = taskTimings.computeIfAbsent(command.getClass(), this::timings);
+		return new TimedTask<>(task, command, t);
+	}
+
+	private TaskTimings timings(Class<?> clazz)
+	{
+		final String name = Timings.name(clazz) + " (" + tier.getName() + ")";
+		return new TaskTimings(
+			timings.histogram(Timings.Category.QUEUE_WAIT, name),
+			timings.histogram(Timings.Category.TASK, name));
+	}
+
+	@Override
+	protected void afterExecute(Runnable r, Throwable t)
+	{
+		super.afterExecute(r, t);
+
+		final Future<?> future = (Future<?>) r;
+		if (future.isDone() && !future.isCancelled())
+		{
+			try
+			{
+				future.get();
+			}
+			catch (ExecutionException ex)
+			{
+				log.error("Uncaught exception in task {}", ((TimedTask<?>) r).command, ex.getCause());
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class TaskTimings
+	{
+		private final TimingHistogram queueWait;
+		private final TimingHistogram run;
+	}
+
+	private class TimedTask<V> implements RunnableScheduledFuture<V>
+	{
+		private final RunnableScheduledFuture<V> task;
+		private final Object command;
+		private final TaskTimings taskTimings;
+
+		private TimedTask(RunnableScheduledFuture<V> task, Object command, TaskTimings taskTimings)
+		{
+			this.task = task;
+			this.command = command;
+			this.taskTimings = taskTimings;
+		}
+
+		@Override
+		public void run()
+		{
+			if (!timings.isEnabled() || task.isCancelled())
+			{
+				task.run();
+				return;
+			}
+
+			// the task was due at its trigger time, so how far past that it is now is the time it spent queued
+			final long wait = -task.getDelay(TimeUnit.NANOSECONDS);
+			queueWait.record(wait);
+			taskTimings.queueWait.record(wait);
+
+			final long start = System.nanoTime();
+			try
+			{
+				task.run();
+			}
+			finally
+			{
+				taskTimings.run.record(System.nanoTime() - start);
+			}
+		}
+
+		@Override
+		public boolean isPeriodic()
+		{
+			return task.isPeriodic();
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit)
+		{
+			return task.getDelay(unit);
+		}
+
+		@Override
+		public int compareTo(Delayed o)
+		{
+			return task.compareTo(o instanceof TimedTask ? ((TimedTask<?>) o).task : o);
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning)
+		{
+			return task.cancel(mayInterruptIfRunning);
+		}
+
+		@Override
+		public boolean isCancelled()
+		{
+			return task.isCancelled();
+		}
+
+		@Override
+		public boolean isDone()
+		{
+			return task.isDone();
+		}
+
+		@Override
+		public V get() throws InterruptedException, ExecutionException
+		{
+			return task.get();
+		}
+
+		@Override
+		public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+		{
+			return task.get(timeout, unit);
+		}
+
+		@Override
+		public String toString()
+		{
+			return command.toString();
+		}
+	}
+}
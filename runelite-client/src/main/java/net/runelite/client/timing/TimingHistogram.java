@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.timing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+
+/**
+ * A histogram of durations, with power of two nanosecond buckets. Recording a
+ * sample does not allocate.
+ */
+@ThreadSafe
+public final class TimingHistogram
+{
+	/**
+	 * Bucket i counts durations less than 2^i ns, and at least 2^(i-1) ns. The last
+	 * bucket counts everything from 2^30 ns (~1s) up.
+	 */
+	static final int BUCKETS = 32;
+
+	@Getter
+	private final Timings.Category category;
+	@Getter
+	private final String name;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong total = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	TimingHistogram(Timings.Category category, String name)
+	{
+		this.category = category;
+		this.name = name;
+	}
+
+	public void record(long nanos)
+	{
+		if (nanos < 0)
+		{
+			nanos = 0;
+		}
+
+		buckets.incrementAndGet(Math.min(64 - Long.numberOfLeadingZeros(nanos), BUCKETS - 1));
+		count.incrementAndGet();
+		total.addAndGet(nanos);
+
+		long m;
+		while (nanos > (m = max.get()) && !max.compareAndSet(m, nanos))
+		{
+		}
+	}
+
+	public long getCount()
+	{
+		return count.get();
+	}
+
+	/**
+	 * @return total time recorded, in ns
+	 */
+	public long getTotal()
+	{
+		return total.get();
+	}
+
+	/**
+	 * @return longest recorded duration, in ns
+	 */
+	public long getMax()
+	{
+		return max.get();
+	}
+
+	/**
+	 * @return mean duration, in ns
+	 */
+	public long getMean()
+	{
+		long c = count.get();
+		return c == 0 ? 0 : total.get() / c;
+	}
+
+	/**
+	 * Estimate a percentile of the recorded durations. The estimate is the upper bound of
+	 * the bucket the percentile falls in, so it is at most twice the actual duration.
+	 *
+	 * @param percentile percentile, between 0 and 1
+	 * @return estimated duration, in ns
+	 */
+	public long getPercentile(double percentile)
+	{
+		long c = 0;
+		long[] counts = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			counts[i] = buckets.get(i);
+			c += counts[i];
+		}
+
+		if (c == 0)
+		{
+			return 0;
+		}
+
+		long target = (long) Math.ceil(percentile * c);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			seen += counts[i];
+			if (seen >= target)
+			{
+				return i == BUCKETS - 1 ? max.get() : Math.min(1L << i, max.get());
+			}
+		}
+		return max.get();
+	}
+
+	public void reset()
+	{
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			buckets.set(i, 0);
+		}
+		count.set(0);
+		total.set(0);
+		max.set(0);
+	}
+}
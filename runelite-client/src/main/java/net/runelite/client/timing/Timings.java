@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.timing;
+
+import com.google.common.collect.MapMaker;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Timings of overlays, event subscribers, client thread invokes, scheduled methods and executor
+ * tasks, to find what is slowing down the client. Timing a call costs two {@link System#nanoTime()} calls, so
+ * this is enabled by default.
+ */
+@Singleton
+public class Timings
+{
+	@RequiredArgsConstructor
+	@Getter
+	public enum Category
+	{
+		OVERLAY("Overlay"),
+		SUBSCRIBER("Subscriber"),
+		INVOKE("Invoke"),
+		DEFERRED_INVOKE("Deferred invoke"),
+		SCHEDULED("Scheduled"),
+		QUEUE_WAIT("Queue wait"),
+		PLUGIN_LOAD("Plugin load"),
+		PLUGIN_START("Plugin start"),
+		TASK("Task");
+
+		private final String name;
+	}
+
+	@Getter
+	@Setter
+	private volatile boolean enabled = true;
+
+	private final Map<Category, Map<String, TimingHistogram>> histograms = new EnumMap<>(Category.class);
+	private final Map<Category, Map<Class<?>, TimingHistogram>> classHistograms = new EnumMap<>(Category.class);
+
+	public Timings()
+	{
+		for (Category category : Category.values())
+		{
+			histograms.put(category, new ConcurrentHashMap<>());
+			// weak keys so that histograms of plugin hub classes do not hold onto their class loader
+			classHistograms.put(category, new MapMaker().weakKeys().makeMap());
+		}
+	}
+
+	/**
+	 * Get the histogram with the given name, creating it if it doesn't exist. Callers should
+	 * look up their histogram once and hold on to it, rather than on each sample.
+	 *
+	 * @param category
+	 * @param name
+	 * @return
+	 */
+	public TimingHistogram histogram(Category category, String name)
+	{
+		return histograms.get(category).computeIfAbsent(name, n -> new TimingHistogram(category, n));
+	}
+
+	/**
+	 * Get the histogram for a class, eg. of a lambda. Looking up an existing histogram does not allocate.
+	 *
+	 * @param category
+	 * @param clazz
+	 * @return
+	 */
+	public TimingHistogram histogram(Category category, Class<?> clazz)
+	{
+		final Map<Class<?>, TimingHistogram> map = classHistograms.get(category);
+		final TimingHistogram histogram = map.get(clazz);
+		if (histogram != null)
+		{
+			return histogram;
+		}
+		return map.computeIfAbsent(clazz, c -> histogram(category, name(c)));
+	}
+
+	public List<TimingHistogram> getHistograms()
+	{
+		final List<TimingHistogram> list = new ArrayList<>();
+		for (Map<String, TimingHistogram> map : histograms.values())
+		{
+			list.addAll(map.values());
+		}
+		return list;
+	}
+
+	/**
+	 * Remove the histograms of the classes in a plugin's package, after the plugin is unloaded
+	 *
+	 * @param pluginClass
+	 */
+	public void remove(Class<?> pluginClass)
+	{
+		final String packageName = pluginClass.getPackageName();
+		final String prefix = packageName.isEmpty() ? name(pluginClass) : packageName + ".";
+		for (Map<String, TimingHistogram> map : histograms.values())
+		{
+			map.keySet().removeIf(name -> name.startsWith(prefix));
+		}
+		for (Map<Class<?>, TimingHistogram> map : classHistograms.values())
+		{
+			map.values().removeIf(histogram -> histogram.getName().startsWith(prefix));
+		}
+	}
+
+	public void reset()
+	{
+		for (Map<String, TimingHistogram> map : histograms.values())
+		{
+			map.values().forEach(TimingHistogram::reset);
+		}
+	}
+
+	/**
+	 * Get the name of a class, with the lambda suffix removed
+	 *
+	 * @param clazz
+	 * @return
+	 */
+	public static String name(Class<?> clazz)
+	{
+		String name = clazz.getName();
+		final int lambda = name.indexOf("$$Lambda");
+		if (lambda != -1)
+		{
+			name = name.substring(0, lambda);
+		}
+		return name;
+	}
+}
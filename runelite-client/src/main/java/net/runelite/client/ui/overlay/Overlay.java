@@ -26,6 +26,7 @@ package net.runelite.client.ui.overlay;
 
 import com.google.common.base.Preconditions;
 import java.awt.Dimension;
+import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.util.ArrayList;
@@ -39,6 +40,7 @@ import net.runelite.api.MenuAction;
 import net.runelite.api.MenuEntry;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.plugins.Plugin;
+import net.runelite.client.timing.TimingHistogram;
 import net.runelite.client.ui.overlay.components.LayoutableRenderableEntity;
 
 @Getter
@@ -80,6 +82,28 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	@Setter(AccessLevel.PROTECTED)
 	private boolean snappable = true;
 
+	/**
+	 * Whether this overlay is drawn in retained mode. A cacheable overlay is rendered into an
+	 * image which is drawn on subsequent frames, and {@link #render(Graphics2D)} is only called
+	 * again after {@link #markDirty()}, or when the font or preferred size of the overlay change.
+	 * Cacheable overlays must call {@link #markDirty()} whenever what they draw changes, and
+	 * must not draw outside of the dimension they return.
+	 */
+	@Setter(AccessLevel.PROTECTED)
+	private boolean cacheable;
+
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	volatile boolean dirty = true;
+
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	final OverlayCache cache = new OverlayCache();
+
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	TimingHistogram timing;
+
 	protected Overlay()
 	{
 		plugin = null;
@@ -146,6 +170,14 @@ public abstract class Overlay implements LayoutableRenderableEntity
 		drawHooks.add(layer.getId());
 	}
 
+	/**
+	 * Mark this overlay as needing to be rendered again, if it is {@link #isCacheable() cacheable}
+	 */
+	public void markDirty()
+	{
+		dirty = true;
+	}
+
 	public void onMouseOver()
 	{
 	}
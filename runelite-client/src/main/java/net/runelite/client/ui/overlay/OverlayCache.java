@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.AlphaComposite;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+
+/**
+ * The retained image of a {@link Overlay#isCacheable() cacheable} overlay
+ */
+class OverlayCache
+{
+	private BufferedImage image;
+	private Dimension dimension;
+	private Font font;
+	private Dimension preferredSize;
+
+	Dimension getDimension()
+	{
+		return dimension;
+	}
+
+	/**
+	 * Draw the retained image of the overlay, if it is still valid
+	 *
+	 * @param overlay
+	 * @param graphics
+	 * @return true if the overlay was drawn, false if it has to be rendered
+	 */
+	boolean drawCached(Overlay overlay, Graphics2D graphics)
+	{
+		if (overlay.dirty || !isValid(graphics.getFont(), overlay.getPreferredSize()))
+		{
+			return false;
+		}
+
+		if (image != null)
+		{
+			graphics.drawImage(image, 0, 0, null);
+		}
+		return true;
+	}
+
+	/**
+	 * Render the overlay, retaining the result for subsequent frames
+	 *
+	 * @param overlay
+	 * @param graphics
+	 * @return the dimension of the overlay
+	 */
+	Dimension render(Overlay overlay, Graphics2D graphics)
+	{
+		final Font font = graphics.getFont();
+		final Dimension preferredSize = overlay.getPreferredSize();
+		final Dimension lastDimension = isValid(font, preferredSize) ? dimension : null;
+
+		// cleared before rendering so that changes made while rendering mark the overlay dirty again
+		overlay.dirty = false;
+		dimension = null;
+		this.font = font;
+		this.preferredSize = preferredSize == null ? null : new Dimension(preferredSize);
+
+		if (lastDimension == null || lastDimension.width <= 0 || lastDimension.height <= 0)
+		{
+			// the size of the overlay is unknown, so render directly and
+			// allocate the image on the next frame
+			return renderDirect(overlay, graphics);
+		}
+
+		final int width = lastDimension.width;
+		final int height = lastDimension.height;
+		if (image == null || image.getWidth() != width || image.getHeight() != height)
+		{
+			image = graphics.getDeviceConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+		}
+
+		final Graphics2D g = image.createGraphics();
+		final Dimension rendered;
+		try
+		{
+			g.setComposite(AlphaComposite.Clear);
+			g.fillRect(0, 0, width, height);
+			g.setComposite(AlphaComposite.SrcOver);
+
+			g.setRenderingHints(graphics.getRenderingHints());
+			g.setFont(font);
+			g.setColor(graphics.getColor());
+			g.setStroke(graphics.getStroke());
+			g.setBackground(graphics.getBackground());
+
+			rendered = overlay.render(g);
+		}
+		finally
+		{
+			g.dispose();
+		}
+
+		if (rendered != null && (rendered.width > width || rendered.height > height))
+		{
+			// the overlay grew and the image is clipped. Render this frame directly
+			// instead, and reallocate the image on the next frame.
+			return renderDirect(overlay, graphics);
+		}
+
+		graphics.drawImage(image, 0, 0, null);
+		dimension = rendered == null ? new Dimension() : new Dimension(rendered);
+		return dimension;
+	}
+
+	private Dimension renderDirect(Overlay overlay, Graphics2D graphics)
+	{
+		final Dimension rendered = overlay.render(graphics);
+		image = null;
+		dimension = rendered == null ? new Dimension() : new Dimension(rendered);
+		if (dimension.width > 0 && dimension.height > 0)
+		{
+			// retain it on the next frame
+			overlay.dirty = true;
+		}
+		return dimension;
+	}
+
+	private boolean isValid(Font font, Dimension preferredSize)
+	{
+		return dimension != null && font.equals(this.font) && Objects.equals(preferredSize, this.preferredSize);
+	}
+}
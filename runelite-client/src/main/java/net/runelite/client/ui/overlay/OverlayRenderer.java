@@ -65,6 +65,8 @@ import net.runelite.client.events.OverlayMenuClicked;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseAdapter;
 import net.runelite.client.input.MouseManager;
+import net.runelite.client.timing.TimingHistogram;
+import net.runelite.client.timing.Timings;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.JagexColors;
 import net.runelite.client.util.ColorUtil;
@@ -95,6 +97,7 @@ public class OverlayRenderer extends MouseAdapter
 	private final ClientUI clientUI;
 	private final EventBus eventBus;
 	private final ChatMessageManager chatMessageManager;
+	private final Timings timings;
 
 	// Overlay movement variables
 	private final Point overlayOffset = new Point();
@@ -126,7 +129,8 @@ public class OverlayRenderer extends MouseAdapter
 		final KeyManager keyManager,
 		final ClientUI clientUI,
 		final EventBus eventBus,
-		final ChatMessageManager chatMessageManager
+		final ChatMessageManager chatMessageManager,
+		final Timings timings
 	)
 	{
 		this.client = client;
@@ -135,6 +139,7 @@ public class OverlayRenderer extends MouseAdapter
 		this.clientUI = clientUI;
 		this.eventBus = eventBus;
 		this.chatMessageManager = chatMessageManager;
+		this.timings = timings;
 
 		HotkeyListener hotkeyListener = new HotkeyListener(runeLiteConfig::dragHotkey)
 		{
@@ -325,7 +330,7 @@ public class OverlayRenderer extends MouseAdapter
 				bounds.setSize(overlay.getPreferredSize());
 			}
 
-			safeRender(overlay, graphics, location);
+			final boolean retained = safeRender(overlay, graphics, location);
 
 			// Adjust snap corner based on where the overlay was drawn
 			if (snapCorner != null && bounds.width + bounds.height > 0)
@@ -333,16 +338,20 @@ public class OverlayRenderer extends MouseAdapter
 				OverlayUtil.shiftSnapCorner(overlayPosition, snapCorner, bounds, PADDING);
 			}
 
-			// Restore graphics2d properties prior to drawing bounds
+			// Restore graphics2d properties prior to drawing bounds. Drawing a retained
+			// overlay only translates the graphics.
 			graphics.setTransform(transform);
-			graphics.setStroke(stroke);
-			graphics.setComposite(composite);
-			graphics.setPaint(paint);
-			graphics.setRenderingHints(renderingHints);
-			graphics.setBackground(background);
-			if (!graphics.getClip().equals(clip))
+			if (!retained)
 			{
-				graphics.setClip(clip);
+				graphics.setStroke(stroke);
+				graphics.setComposite(composite);
+				graphics.setPaint(paint);
+				graphics.setRenderingHints(renderingHints);
+				graphics.setBackground(background);
+				if (!graphics.getClip().equals(clip))
+				{
+					graphics.setClip(clip);
+				}
 			}
 
 			if (!bounds.isEmpty())
@@ -707,7 +716,12 @@ public class OverlayRenderer extends MouseAdapter
 		}
 	}
 
-	private void safeRender(Overlay overlay, Graphics2D graphics, Point point)
+	/**
+	 * Render an overlay
+	 *
+	 * @return true if the overlay was drawn from its retained image
+	 */
+	private boolean safeRender(Overlay overlay, Graphics2D graphics, Point point)
 	{
 		final OverlayPosition position = overlay.getPosition();
 
@@ -728,19 +742,48 @@ public class OverlayRenderer extends MouseAdapter
 		graphics.translate(point.x, point.y);
 		overlay.getBounds().setLocation(point);
 
+		TimingHistogram timing = overlay.timing;
+		if (timing == null)
+		{
+			final String className = Timings.name(overlay.getClass());
+			final String name = overlay.getName().equals(overlay.getClass().getSimpleName())
+				? className
+				: className + " " + overlay.getName();
+			timing = overlay.timing = timings.histogram(Timings.Category.OVERLAY, name);
+		}
+
+		final boolean timed = timings.isEnabled();
+		final long start = timed ? System.nanoTime() : 0L;
 		final Dimension overlayDimension;
+		boolean retained = false;
 		try
 		{
-			overlayDimension = overlay.render(graphics);
+			if (overlay.isCacheable())
+			{
+				retained = overlay.cache.drawCached(overlay, graphics);
+				overlayDimension = retained ? overlay.cache.getDimension() : overlay.cache.render(overlay, graphics);
+			}
+			else
+			{
+				overlayDimension = overlay.render(graphics);
+			}
 		}
 		catch (Exception ex)
 		{
 			log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
-			return;
+			return false;
+		}
+		finally
+		{
+			if (timed)
+			{
+				timing.record(System.nanoTime() - start);
+			}
 		}
 
 		final Dimension dimension = MoreObjects.firstNonNull(overlayDimension, new Dimension());
 		overlay.getBounds().setSize(dimension);
+		return retained;
 	}
 
 	private OverlayPosition getCorrectedOverlayPosition(final Overlay overlay)
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.client.timing.Timings;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientThreadTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Bind
+	private Timings timings = new Timings();
+
+	@Inject
+	private ClientThread clientThread;
+
+	private int calls;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		when(client.isClientThread()).thenReturn(true);
+	}
+
+	@Test
+	public void testBackoff()
+	{
+		clientThread.invokeLater(() ->
+		{
+			++calls;
+			return false;
+		});
+
+		for (int i = 0; i < 40; ++i)
+		{
+			clientThread.invoke();
+		}
+
+		// every frame for the first 5 frames, then backing off to 2, 4, 8 and 16 frames
+		assertEquals(9, calls);
+		assertEquals(9, clientThread.getDeferredCount());
+		assertEquals(1, clientThread.getQueueSize());
+	}
+
+	@Test
+	public void testBudget()
+	{
+		final List<Integer> ran = new ArrayList<>();
+		for (int i = 0; i < 3; ++i)
+		{
+			final int id = i;
+			clientThread.invokeLater(() ->
+			{
+				// longer than the invoke budget
+				final long start = System.nanoTime();
+				while (System.nanoTime() - start < 5_000_000L)
+				{
+				}
+				ran.add(id);
+			});
+		}
+
+		clientThread.invoke();
+		assertEquals(List.of(0), ran);
+		clientThread.invoke();
+		assertEquals(List.of(0, 1), ran);
+		clientThread.invoke();
+		assertEquals(List.of(0, 1, 2), ran);
+
+		assertEquals(2, clientThread.getOverBudgetCount());
+		assertEquals(0, clientThread.getQueueSize());
+	}
+}
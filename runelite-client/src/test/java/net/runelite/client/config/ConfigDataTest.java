@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@Slf4j
+public class ConfigDataTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testJournal() throws IOException
+	{
+		File file = folder.newFile("test.properties");
+		file.delete();
+
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a.b", "1");
+		data.setProperty("a.c", "2");
+		data.patch(data.swapChanges());
+
+		// the first save writes the properties file
+		assertTrue(file.exists());
+		assertFalse(ConfigData.journalFile(file).exists());
+		long modified = file.lastModified();
+		long length = file.length();
+
+		data.setProperty("a.b", "3");
+		data.unset("a.c");
+		data.setProperty("key=with\nescapes\\", "value=with\r\nescapes\\");
+		data.patch(data.swapChanges());
+
+		// later saves only append to the journal
+		assertTrue(ConfigData.journalFile(file).exists());
+		assertEquals(modified, file.lastModified());
+		assertEquals(length, file.length());
+
+		ConfigData loaded = new ConfigData(file);
+		assertEquals(data.get(), loaded.get());
+
+		ConfigData.compact(file);
+		assertFalse(ConfigData.journalFile(file).exists());
+
+		loaded = new ConfigData(file);
+		assertEquals("3", loaded.getProperty("a.b"));
+		assertNull(loaded.getProperty("a.c"));
+		assertEquals("value=with\r\nescapes\\", loaded.getProperty("key=with\nescapes\\"));
+	}
+
+	@Test
+	public void testMerge() throws IOException
+	{
+		File file = folder.newFile("test.properties");
+		file.delete();
+
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a.b", "1");
+		data.patch(data.swapChanges());
+
+		// two clients sharing one config file
+		ConfigData client1 = new ConfigData(file);
+		ConfigData client2 = new ConfigData(file);
+
+		client1.setProperty("a.c", "2");
+		client1.patch(client1.swapChanges());
+
+		client2.setProperty("a.d", "3");
+		client2.unset("a.b");
+		client2.patch(client2.swapChanges());
+
+		ConfigData loaded = new ConfigData(file);
+		assertNull(loaded.getProperty("a.b"));
+		assertEquals("2", loaded.getProperty("a.c"));
+		assertEquals("3", loaded.getProperty("a.d"));
+	}
+
+	@Test
+	public void testTruncatedJournal() throws IOException
+	{
+		File file = folder.newFile("test.properties");
+		file.delete();
+
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a.b", "1");
+		data.patch(data.swapChanges());
+
+		data.setProperty("a.c", "2");
+		data.patch(data.swapChanges());
+
+		// simulate a write interrupted part way through a batch
+		try (FileOutputStream out = new FileOutputStream(ConfigData.journalFile(file), true))
+		{
+			out.write("+a.d=3\n+a.e=".getBytes(StandardCharsets.UTF_8));
+		}
+
+		ConfigData loaded = new ConfigData(file);
+		assertEquals("1", loaded.getProperty("a.b"));
+		assertEquals("2", loaded.getProperty("a.c"));
+		assertNull(loaded.getProperty("a.d"));
+		assertNull(loaded.getProperty("a.e"));
+
+		// the next save drops the incomplete batch
+		loaded.setProperty("a.f", "4");
+		loaded.patch(loaded.swapChanges());
+
+		loaded = new ConfigData(file);
+		assertEquals("2", loaded.getProperty("a.c"));
+		assertNull(loaded.getProperty("a.d"));
+		assertEquals("4", loaded.getProperty("a.f"));
+	}
+
+	@Test
+	public void testCompactOnGrowth() throws IOException
+	{
+		File file = folder.newFile("test.properties");
+		file.delete();
+
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a.b", "1");
+		data.patch(data.swapChanges());
+
+		File journal = ConfigData.journalFile(file);
+		String padding = "x".repeat(100);
+		for (int i = 0; i < 1500; ++i)
+		{
+			data.setProperty("a.b", padding + i);
+			data.patch(data.swapChanges());
+
+			// the journal never grows much past the compaction threshold
+			assertTrue(journal.length() < 128 * 1024);
+		}
+
+		assertEquals(padding + 1499, new ConfigData(file).getProperty("a.b"));
+	}
+
+	@Test
+	public void testKeysWithPrefix() throws IOException
+	{
+		File file = folder.newFile("test.properties");
+		file.delete();
+
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a.b", "1");
+		data.setProperty("ab.c", "2");
+		data.setProperty("a.c", "3");
+		data.setProperty("b.a", "4");
+		data.putAll(Map.of("a.d", "5"));
+
+		assertEquals(List.of("a.b", "a.c", "a.d"), data.keysWithPrefix("a."));
+		assertEquals(List.of("a.b", "a.c", "a.d", "ab.c"), data.keysWithPrefix("a"));
+
+		data.unset("a.c");
+		assertEquals(List.of("a.b", "a.d"), data.keysWithPrefix("a."));
+		assertEquals(List.of(), data.keysWithPrefix("c"));
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkKeysWithPrefix() throws IOException
+	{
+		File file = folder.newFile("test.properties");
+		file.delete();
+
+		// a 50k key rs profile
+		ConfigData data = new ConfigData(file);
+		Map<String, String> values = new HashMap<>();
+		for (int i = 0; i < 50_000; ++i)
+		{
+			values.put("loottracker.rsprofile.p" + (i % 10) + ".drops_NPC_" + i, "[]");
+		}
+		data.putAll(values);
+
+		String prefix = "loottracker.rsprofile.p3.drops_";
+		for (int run = 0; run < 5; ++run)
+		{
+			int iterations = 100;
+			long start = System.nanoTime();
+			for (int i = 0; i < iterations; ++i)
+			{
+				data.keySet().stream()
+					.filter(k -> k.startsWith(prefix))
+					.collect(Collectors.toList());
+			}
+			long scanTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			int matches = 0;
+			for (int i = 0; i < iterations; ++i)
+			{
+				matches = data.keysWithPrefix(prefix).size();
+			}
+			long prefixTime = System.nanoTime() - start;
+
+			log.info("{} keys, {} matches: scan {}us, prefix {}us", data.keySet().size(), matches,
+				scanTime / iterations / 1000, prefixTime / iterations / 1000);
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkPatch() throws IOException
+	{
+		File file = folder.newFile("test.properties");
+		file.delete();
+
+		// a large profile, like an rs profile with years of loot tracker data
+		ConfigData data = new ConfigData(file);
+		Map<String, String> values = new HashMap<>();
+		for (int i = 0; i < 20_000; ++i)
+		{
+			values.put("loottracker.rsprofile.drops_NPC_" + i, "[{\"id\":" + i + ",\"qty\":" + i * 7 + "}]");
+		}
+		data.putAll(values);
+		data.patch(data.swapChanges());
+
+		for (int run = 0; run < 5; ++run)
+		{
+			int saves = 1000;
+			long start = System.nanoTime();
+			for (int i = 0; i < saves; ++i)
+			{
+				data.setProperty("timetracking.rsprofile.tick", Integer.toString(run * saves + i));
+				data.setProperty("loottracker.rsprofile.drops_NPC_" + i, "[]");
+				data.patch(data.swapChanges());
+			}
+			long time = System.nanoTime() - start;
+
+			log.info("{} keys: {}us per save", data.keySet().size(), time / saves / 1000);
+		}
+	}
+}
@@ -30,9 +30,11 @@ import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.io.File;
 import java.io.IOException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.account.SessionManager;
@@ -40,6 +42,7 @@ import net.runelite.client.eventbus.EventBus;
 import org.junit.Assert;
 import static org.junit.Assert.assertNotNull;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -50,6 +53,7 @@ import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
+@Slf4j
 public class ConfigManagerTest
 {
 	@Mock
@@ -145,6 +149,68 @@ public class ConfigManagerTest
 		Assert.assertEquals("new value", conf.key());
 	}
 
+	@Test
+	public void testCacheInvalidation()
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		Assert.assertEquals("default", conf.key());
+
+		// unrelated keys and rs profile keys leave the value cached, and the value stays correct
+		manager.setConfiguration("test", "nullDefaultKey", "value");
+		manager.setConfiguration("test", "rsprofile.123", "key", "profile value");
+		Assert.assertEquals("default", conf.key());
+
+		manager.setConfiguration("test", "key", "moo");
+		Assert.assertEquals("moo", conf.key());
+		Assert.assertEquals("value", conf.nullDefaultKey());
+
+		manager.unsetConfiguration("test", "key");
+		Assert.assertEquals("default", conf.key());
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkGetterWithBackgroundWrites() throws InterruptedException
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		manager.setConfiguration("test", "key", "moo");
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		Thread writer = new Thread(() ->
+		{
+			// rs profile writes, as made by eg. the loot tracker during normal play
+			for (int i = 0; running.get(); ++i)
+			{
+				manager.setConfiguration("loottracker", "rsprofile.123", "drops", i);
+				manager.setConfiguration("other", "key", i);
+			}
+		});
+		writer.start();
+
+		try
+		{
+			for (int run = 0; run < 5; ++run)
+			{
+				long start = System.nanoTime();
+				// a render loop, which reads the same items each frame
+				for (int frame = 0; frame < 100_000; ++frame)
+				{
+					for (int i = 0; i < 10; ++i)
+					{
+						conf.key();
+					}
+				}
+				long time = System.nanoTime() - start;
+				log.info("{}ns per getter call", time / 1_000_000);
+			}
+		}
+		finally
+		{
+			running.set(false);
+			writer.join();
+		}
+	}
+
 	@Test
 	public void testGetConfigDescriptor() throws IOException
 	{
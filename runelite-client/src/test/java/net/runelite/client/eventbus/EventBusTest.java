@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.timing.TimingHistogram;
+import net.runelite.client.timing.Timings;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class EventBusTest
+{
+	private final List<String> calls = new ArrayList<>();
+
+	public static class TestEvent
+	{
+	}
+
+	public static class OtherEvent
+	{
+	}
+
+	public class Subscriber
+	{
+		private final String name;
+
+		Subscriber(String name)
+		{
+			this.name = name;
+		}
+
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add(name);
+		}
+
+		@Subscribe(priority = 1)
+		public void onOtherEvent(OtherEvent event)
+		{
+			calls.add(name + " other");
+		}
+	}
+
+	@Test
+	public void testPost()
+	{
+		EventBus eventBus = new EventBus();
+		Subscriber a = new Subscriber("a");
+		Subscriber b = new Subscriber("b");
+		eventBus.register(a);
+		eventBus.register(b);
+		eventBus.register(TestEvent.class, e -> calls.add("lambda"), 1);
+
+		eventBus.post(new TestEvent());
+		// higher priority first, then registration order
+		assertEquals(List.of("lambda", "a", "b"), calls);
+
+		calls.clear();
+		eventBus.unregister(a);
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertEquals(List.of("lambda", "b", "b other"), calls);
+	}
+
+	public class ConfigSubscriber
+	{
+		@Subscribe(key = "a")
+		public void onConfigChanged(ConfigChanged event)
+		{
+			calls.add("a " + event.getKey());
+		}
+	}
+
+	public class BadKeySubscriber
+	{
+		@Subscribe(key = "a")
+		public void onTestEvent(TestEvent event)
+		{
+		}
+	}
+
+	@Test
+	public void testKeyed()
+	{
+		EventBus eventBus = new EventBus();
+		eventBus.register(new ConfigSubscriber());
+		eventBus.register(ConfigChanged.class, e -> calls.add("all " + e.getKey()), 1);
+		eventBus.register(ConfigChanged.class, e -> calls.add("b " + e.getKey()), 0, "b");
+
+		eventBus.post(configChanged("a", "1"));
+		eventBus.post(configChanged("b", "2"));
+		eventBus.post(configChanged("c", "3"));
+		assertEquals(List.of("all 1", "a 1", "all 2", "b 2", "all 3"), calls);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testKeyedNotKeyedEvent()
+	{
+		new EventBus().register(new BadKeySubscriber());
+	}
+
+	private static ConfigChanged configChanged(String group, String key)
+	{
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(group);
+		configChanged.setKey(key);
+		return configChanged;
+	}
+
+	@Test
+	public void testDispatcher()
+	{
+		EventBus eventBus = new EventBus();
+		EventBus.Dispatcher<TestEvent> dispatcher = eventBus.dispatcher(TestEvent.class);
+		assertFalse(dispatcher.hasSubscribers());
+
+		// the dispatcher sees subscribers registered after it was created
+		Subscriber a = new Subscriber("a");
+		eventBus.register(a);
+		EventBus.Subscriber sub = eventBus.register(TestEvent.class, e -> calls.add("lambda"), 0);
+		assertTrue(dispatcher.hasSubscribers());
+
+		dispatcher.post(new TestEvent());
+		// equal priorities are ordered by subscriber class name
+		assertEquals(List.of("lambda", "a"), calls);
+
+		calls.clear();
+		eventBus.unregister(sub);
+		dispatcher.post(new TestEvent());
+		assertEquals(List.of("a"), calls);
+
+		eventBus.unregister(a);
+		assertFalse(dispatcher.hasSubscribers());
+	}
+
+	@Test
+	public void testTimings()
+	{
+		Timings timings = new Timings();
+		EventBus eventBus = new EventBus(timings);
+		eventBus.register(new Subscriber("a"));
+		eventBus.register(TestEvent.class, e -> calls.add("lambda"), 0);
+
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+
+		TimingHistogram method = timings.histogram(Timings.Category.SUBSCRIBER, Subscriber.class.getName() + ".onTestEvent");
+		assertEquals(2, method.getCount());
+		TimingHistogram lambda = timings.histogram(Timings.Category.SUBSCRIBER, EventBusTest.class.getName() + " TestEvent");
+		assertEquals(2, lambda.getCount());
+
+		timings.setEnabled(false);
+		eventBus.post(new TestEvent());
+		assertEquals(2, method.getCount());
+	}
+
+	@Test
+	public void testExceptionHandler()
+	{
+		List<Throwable> exceptions = new ArrayList<>();
+		EventBus eventBus = new EventBus(exceptions::add);
+		eventBus.register(TestEvent.class, e ->
+		{
+			throw new IllegalStateException();
+		}, 1);
+		eventBus.register(new Subscriber("a"));
+
+		eventBus.post(new TestEvent());
+		assertEquals(1, exceptions.size());
+		assertEquals(List.of("a"), calls);
+	}
+
+	public static class Plugin
+	{
+		@Subscribe
+		public void onGameTick(GameTick event)
+		{
+		}
+
+		@Subscribe
+		public void onBeforeRender(BeforeRender event)
+		{
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		EventBus eventBus = new EventBus();
+		List<Plugin> plugins = new ArrayList<>();
+		for (int i = 0; i < 150; ++i)
+		{
+			Plugin plugin = new Plugin();
+			plugins.add(plugin);
+			eventBus.register(plugin);
+		}
+		for (int i = 0; i < 1000; ++i)
+		{
+			// other event types, as registered by the rest of the client
+			eventBus.register(TestEvent.class, e ->
+			{
+			}, 0);
+			eventBus.register(OtherEvent.class, e ->
+			{
+			}, 0);
+		}
+
+		EventBus.Dispatcher<GameTick> dispatcher = eventBus.dispatcher(GameTick.class);
+		GameTick tick = new GameTick();
+		for (int run = 0; run < 5; ++run)
+		{
+			long start = System.nanoTime();
+			for (int i = 0; i < 1_000_000; ++i)
+			{
+				eventBus.post(tick);
+			}
+			long postTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < 1_000_000; ++i)
+			{
+				dispatcher.post(tick);
+			}
+			long dispatchTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < 10_000; ++i)
+			{
+				Plugin plugin = plugins.get(i % plugins.size());
+				eventBus.unregister(plugin);
+				eventBus.register(plugin);
+			}
+			long churnTime = System.nanoTime() - start;
+
+			log.info("post {}ns, dispatcher post {}ns, unregister + register {}us",
+				postTime / 1_000_000, dispatchTime / 1_000_000, churnTime / 10_000 / 1000);
+		}
+	}
+}
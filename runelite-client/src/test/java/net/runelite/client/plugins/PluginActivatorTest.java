@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import javax.swing.SwingUtilities;
+import net.runelite.api.Client;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.WidgetLoaded;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.events.PluginChanged;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PluginActivatorTest
+{
+	private static final int REGION = 12850;
+	private static final int WIDGET = 1000;
+
+	@PluginDescriptor(
+		name = "Region",
+		activationRegions = REGION,
+		activationIdleTimeout = 1
+	)
+	static class RegionPlugin extends Plugin
+	{
+	}
+
+	@PluginDescriptor(
+		name = "Widget",
+		activationWidgets = WIDGET
+	)
+	static class WidgetPlugin extends Plugin
+	{
+	}
+
+	@PluginDescriptor(
+		name = "Event",
+		activationEvents = TestEvent.class
+	)
+	static class EventPlugin extends Plugin
+	{
+	}
+
+	static class TestEvent
+	{
+	}
+
+	@Mock
+	@Bind
+	Client client;
+
+	@Mock
+	@Bind
+	PluginManager pluginManager;
+
+	@Bind
+	EventBus eventBus = new EventBus();
+
+	private final Plugin regionPlugin = new RegionPlugin();
+	private final Plugin widgetPlugin = new WidgetPlugin();
+	private final Plugin eventPlugin = new EventPlugin();
+	private final Set<Plugin> active = new HashSet<>();
+
+	@Before
+	public void before() throws Exception
+	{
+		when(pluginManager.getTriggeredPlugins()).thenReturn(Arrays.asList(regionPlugin, widgetPlugin, eventPlugin));
+		when(pluginManager.isPluginEnabled(any(Plugin.class))).thenReturn(true);
+		when(pluginManager.isPluginActive(any(Plugin.class))).thenAnswer(a -> active.contains(a.getArgument(0)));
+		when(pluginManager.startPlugin(any(Plugin.class))).thenAnswer(a ->
+		{
+			Plugin plugin = a.getArgument(0);
+			active.add(plugin);
+			eventBus.post(new PluginChanged(plugin, true));
+			return true;
+		});
+
+		Guice.createInjector(BoundFieldModule.of(this))
+			.getInstance(PluginActivator.class)
+			.start();
+	}
+
+	@Test
+	public void testRegionTrigger() throws Exception
+	{
+		when(client.getMapRegions()).thenReturn(new int[]{REGION});
+		eventBus.post(new GameTick());
+		flush();
+
+		assertTrue(active.contains(regionPlugin));
+		assertFalse(active.contains(widgetPlugin));
+		assertFalse(active.contains(eventPlugin));
+	}
+
+	@Test
+	public void testWidgetTrigger() throws Exception
+	{
+		WidgetLoaded widgetLoaded = new WidgetLoaded();
+		widgetLoaded.setGroupId(WIDGET);
+		eventBus.post(widgetLoaded);
+		flush();
+
+		assertTrue(active.contains(widgetPlugin));
+		assertFalse(active.contains(regionPlugin));
+	}
+
+	@Test
+	public void testEventTrigger() throws Exception
+	{
+		eventBus.post(new TestEvent());
+		flush();
+		assertTrue(active.contains(eventPlugin));
+
+		// further events don't start the plugin again
+		eventBus.post(new TestEvent());
+		flush();
+		verify(pluginManager, times(1)).startPlugin(eventPlugin);
+	}
+
+	@Test
+	public void testIdleDeactivation() throws Exception
+	{
+		when(pluginManager.stopPlugin(any(Plugin.class))).thenAnswer(a ->
+		{
+			Plugin plugin = a.getArgument(0);
+			active.remove(plugin);
+			eventBus.post(new PluginChanged(plugin, false));
+			return true;
+		});
+
+		when(client.getMapRegions()).thenReturn(new int[]{REGION});
+		eventBus.post(new GameTick());
+		eventBus.post(new TestEvent());
+		flush();
+		assertTrue(active.contains(regionPlugin));
+		assertTrue(active.contains(eventPlugin));
+
+		// the region plugin is stopped once it has been outside of its region for its idle timeout of a minute,
+		// and the event plugin has no idle timeout
+		when(client.getMapRegions()).thenReturn(new int[]{0});
+		for (int i = 0; i < 99; ++i)
+		{
+			eventBus.post(new GameTick());
+		}
+		flush();
+		assertTrue(active.contains(regionPlugin));
+
+		eventBus.post(new GameTick());
+		flush();
+		assertFalse(active.contains(regionPlugin));
+		assertTrue(active.contains(eventPlugin));
+	}
+
+	private static void flush() throws Exception
+	{
+		SwingUtilities.invokeAndWait(() ->
+		{
+		});
+	}
+}
@@ -40,11 +40,13 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.RuneLiteModule;
@@ -56,6 +58,7 @@ import net.runelite.client.eventbus.EventBus;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import org.junit.Before;
 import org.junit.Rule;
@@ -138,7 +141,7 @@ public class PluginManagerTest
 	@Test
 	public void testLoadPlugins() throws Exception
 	{
-		PluginManager pluginManager = new PluginManager(false, false, null, null, null, null);
+		PluginManager pluginManager = new PluginManager(false, false, null, null, null, null, null);
 		pluginManager.setOutdated(true);
 		pluginManager.loadCorePlugins();
 		Collection<Plugin> plugins = pluginManager.getPlugins();
@@ -149,7 +152,7 @@ public class PluginManagerTest
 			.count();
 		assertEquals(expected, plugins.size());
 
-		pluginManager = new PluginManager(false, false, null, null, null, null);
+		pluginManager = new PluginManager(false, false, null, null, null, null, null);
 		pluginManager.loadCorePlugins();
 		plugins = pluginManager.getPlugins();
 
@@ -165,10 +168,43 @@ public class PluginManagerTest
 		assertEquals(expected, plugins.size());
 	}
 
+	@Test
+	public void testPluginIndex() throws Exception
+	{
+		Collection<PluginIndex.Entry> index = PluginIndex.load(getClass().getClassLoader());
+		assertNotNull("No plugin index, was the plugin processor run?", index);
+
+		// the index should list exactly the plugins found by scanning the classpath
+		Set<String> indexed = index.stream()
+			.map(PluginIndex.Entry::getClassName)
+			.filter(name -> name.startsWith(PLUGIN_PACKAGE + "."))
+			.collect(Collectors.toSet());
+		Set<String> scanned = pluginClasses.stream()
+			.map(Class::getName)
+			.collect(Collectors.toSet());
+		assertEquals(scanned, indexed);
+
+		for (PluginIndex.Entry entry : index)
+		{
+			Class<?> clazz = Class.forName(entry.getClassName());
+			PluginDescriptor descriptor = clazz.getAnnotation(PluginDescriptor.class);
+			assertEquals(descriptor.name(), entry.getName());
+			assertEquals(descriptor.configName(), entry.getConfigName());
+			assertEquals(descriptor.developerPlugin(), entry.isDeveloperPlugin());
+			assertEquals(descriptor.loadWhenOutdated(), entry.isLoadWhenOutdated());
+			assertEquals(descriptor.loadInSafeMode(), entry.isLoadInSafeMode());
+
+			List<String> dependencies = Arrays.stream(clazz.getAnnotationsByType(PluginDependency.class))
+				.map(d -> d.value().getName())
+				.collect(Collectors.toList());
+			assertEquals(dependencies, entry.getDependencies());
+		}
+	}
+
 	@Test
 	public void dumpGraph() throws Exception
 	{
-		PluginManager pluginManager = new PluginManager(true, false, null, null, null, null);
+		PluginManager pluginManager = new PluginManager(true, false, null, null, null, null, null);
 		pluginManager.loadCorePlugins();
 
 		Injector graphvizInjector = Guice.createInjector(new GraphvizModule());
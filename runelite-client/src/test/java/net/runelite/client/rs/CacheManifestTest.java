@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.rs;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheManifestTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testManifest() throws IOException
+	{
+		File manifestFile = folder.newFile("cache.manifest");
+		File cache = folder.newFile("vanilla.cache");
+		Files.write(cache.toPath(), "vanilla".getBytes(StandardCharsets.UTF_8));
+
+		CacheManifest manifest = new CacheManifest(manifestFile);
+		assertFalse(manifest.isVerified(cache));
+		assertNull(manifest.getHash(cache));
+
+		byte[] hash = {1, 2, 3, 4};
+		manifest.setVerified(cache);
+		manifest.setHash(cache, hash);
+
+		// results persist across launches
+		manifest = new CacheManifest(manifestFile);
+		assertTrue(manifest.isVerified(cache));
+		assertArrayEquals(hash, manifest.getHash(cache));
+
+		// and are discarded once the cache changes
+		Files.write(cache.toPath(), "vanilla2".getBytes(StandardCharsets.UTF_8));
+		assertFalse(manifest.isVerified(cache));
+		assertNull(manifest.getHash(cache));
+
+		manifest.setHash(cache, hash);
+		assertFalse(manifest.isVerified(cache));
+		assertArrayEquals(hash, manifest.getHash(cache));
+	}
+}
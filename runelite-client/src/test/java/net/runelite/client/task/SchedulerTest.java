@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.client.timing.Timings;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SchedulerTest
+{
+	private Scheduler scheduler;
+	private int calls;
+	private final CountDownLatch asyncCalls = new CountDownLatch(1);
+	private final AtomicInteger slowCalls = new AtomicInteger();
+	private final CountDownLatch slowRelease = new CountDownLatch(1);
+
+	@Before
+	public void before()
+	{
+		scheduler = new Scheduler();
+		scheduler.timings = new Timings();
+	}
+
+	@Schedule(period = 50, unit = ChronoUnit.MILLIS)
+	public void scheduled()
+	{
+		++calls;
+	}
+
+	@Schedule(period = 50, unit = ChronoUnit.MILLIS, asynchronous = true)
+	public void scheduledAsync()
+	{
+		asyncCalls.countDown();
+	}
+
+	@Schedule(period = 50, unit = ChronoUnit.MILLIS, asynchronous = true)
+	public void scheduledSlow() throws InterruptedException
+	{
+		slowCalls.incrementAndGet();
+		slowRelease.await();
+	}
+
+	private ScheduledMethod scheduledMethod(String name) throws NoSuchMethodException
+	{
+		return new ScheduledMethod(getClass().getMethod(name).getAnnotation(Schedule.class), getClass().getMethod(name), this, null);
+	}
+
+	@Test
+	public void testTick() throws Exception
+	{
+		ScheduledMethod method = scheduledMethod("scheduled");
+		scheduler.addScheduledMethod(method);
+
+		scheduler.tick();
+		assertEquals(0, calls);
+
+		Thread.sleep(60);
+		scheduler.tick();
+		scheduler.tick();
+		assertEquals(1, calls);
+
+		Thread.sleep(60);
+		scheduler.tick();
+		assertEquals(2, calls);
+
+		scheduler.removeScheduledMethod(method);
+		Thread.sleep(60);
+		scheduler.tick();
+		assertEquals(2, calls);
+		assertTrue(scheduler.getScheduledMethods().isEmpty());
+	}
+
+	@Test
+	public void testAsynchronous() throws Exception
+	{
+		scheduler.addScheduledMethod(scheduledMethod("scheduledAsync"));
+
+		Thread.sleep(60);
+		scheduler.tick();
+		assertTrue(asyncCalls.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testAsynchronousOverlap() throws Exception
+	{
+		scheduler.addScheduledMethod(scheduledMethod("scheduledSlow"));
+
+		Thread.sleep(60);
+		scheduler.tick();
+
+		// the first run is still in progress, so it is not started again
+		Thread.sleep(60);
+		scheduler.tick();
+		Thread.sleep(20);
+		assertEquals(1, slowCalls.get());
+
+		slowRelease.countDown();
+		for (int i = 0; i < 50 && slowCalls.get() < 2; ++i)
+		{
+			Thread.sleep(60);
+			scheduler.tick();
+		}
+		assertEquals(2, slowCalls.get());
+	}
+}
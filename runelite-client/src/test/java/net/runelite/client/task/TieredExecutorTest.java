@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.timing.TimingHistogram;
+import net.runelite.client.timing.Timings;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TieredExecutorTest
+{
+	private Timings timings;
+	private TieredExecutor executor;
+
+	@Before
+	public void before()
+	{
+		timings = new Timings();
+		executor = new TieredExecutor(ExecutorTier.UI, timings);
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testTimings() throws Exception
+	{
+		executor.submit(() ->
+		{
+		}).get();
+		executor.schedule(() ->
+		{
+		}, 10, TimeUnit.MILLISECONDS).get();
+
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+
+		TimingHistogram run = timings.histogram(Timings.Category.TASK, TieredExecutorTest.class.getName() + " (ui)");
+		assertEquals(2, run.getCount());
+		TimingHistogram wait = timings.histogram(Timings.Category.QUEUE_WAIT, TieredExecutorTest.class.getName() + " (ui)");
+		assertEquals(2, wait.getCount());
+		assertEquals(2, timings.histogram(Timings.Category.QUEUE_WAIT, "ui tier").getCount());
+	}
+
+	@Test
+	public void testQueueFull() throws Exception
+	{
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() ->
+		{
+			started.countDown();
+			try
+			{
+				release.await();
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+			}
+		});
+		assertTrue(started.await(1, TimeUnit.SECONDS));
+
+		for (int i = 0; i < ExecutorTier.UI.getQueueSize(); ++i)
+		{
+			executor.execute(() ->
+			{
+			});
+		}
+		assertEquals(ExecutorTier.UI.getQueueSize(), executor.getWaitingCount());
+		assertTrue(executor.isSaturated());
+
+		try
+		{
+			executor.execute(() ->
+			{
+			});
+			fail();
+		}
+		catch (RejectedExecutionException ex)
+		{
+			// expected
+		}
+		assertEquals(1, executor.getRejectedCount());
+
+		release.countDown();
+		executor.submit(() ->
+		{
+		}).get(1, TimeUnit.SECONDS);
+		assertFalse(executor.isSaturated());
+	}
+
+	@Test
+	public void testException() throws Exception
+	{
+		Future<?> future = executor.submit(() ->
+		{
+			throw new IllegalStateException();
+		});
+		try
+		{
+			future.get();
+			fail();
+		}
+		catch (ExecutionException ex)
+		{
+			assertTrue(ex.getCause() instanceof IllegalStateException);
+		}
+
+		// the executor is still usable
+		assertEquals(42, (int) executor.submit(() -> 42).get());
+	}
+}
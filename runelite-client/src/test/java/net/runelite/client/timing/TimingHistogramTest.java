@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.timing;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class TimingHistogramTest
+{
+	@Test
+	public void testRecord()
+	{
+		TimingHistogram histogram = new TimingHistogram(Timings.Category.OVERLAY, "test");
+		for (int i = 1; i <= 100; ++i)
+		{
+			histogram.record(i * 1000L);
+		}
+
+		assertEquals(100, histogram.getCount());
+		assertEquals(5_050_000, histogram.getTotal());
+		assertEquals(50_500, histogram.getMean());
+		assertEquals(100_000, histogram.getMax());
+
+		// percentiles are bucket upper bounds, capped at the max
+		assertEquals(65_536, histogram.getPercentile(0.5));
+		assertEquals(100_000, histogram.getPercentile(0.99));
+
+		histogram.record(10_000_000_000L);
+		assertEquals(10_000_000_000L, histogram.getPercentile(1));
+
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getPercentile(0.5));
+	}
+
+	@Test
+	public void testName()
+	{
+		Runnable r = () ->
+		{
+		};
+		assertEquals("TimingHistogramTest", Timings.name(r.getClass()));
+		assertEquals("Timings", Timings.name(Timings.class));
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.timing;
+
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import org.junit.Test;
+
+public class TimingsTest
+{
+	static class A
+	{
+		static class Task
+		{
+		}
+	}
+
+	static class B
+	{
+		static class Task
+		{
+		}
+	}
+
+	@Test
+	public void testClassNames()
+	{
+		Timings timings = new Timings();
+		TimingHistogram a = timings.histogram(Timings.Category.TASK, A.Task.class);
+		TimingHistogram b = timings.histogram(Timings.Category.TASK, B.Task.class);
+		assertNotSame(a, b);
+		assertEquals(A.Task.class.getName(), a.getName());
+
+		Runnable lambda = () ->
+		{
+		};
+		assertEquals(TimingsTest.class.getName(), Timings.name(lambda.getClass()));
+	}
+
+	@Test
+	public void testRemove()
+	{
+		Timings timings = new Timings();
+		timings.histogram(Timings.Category.PLUGIN_START, TimingsTest.class);
+		timings.histogram(Timings.Category.SUBSCRIBER, A.Task.class.getName() + ".onGameTick");
+		TimingHistogram other = timings.histogram(Timings.Category.TASK, String.class);
+
+		timings.remove(TimingsTest.class);
+
+		List<TimingHistogram> histograms = timings.getHistograms();
+		assertEquals(List.of(other), histograms);
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OverlayCacheTest
+{
+	private static class CountingOverlay extends Overlay
+	{
+		private int renders;
+		private Color color = Color.RED;
+		private Dimension size = new Dimension(10, 10);
+
+		CountingOverlay()
+		{
+			setCacheable(true);
+		}
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			++renders;
+			graphics.setColor(color);
+			graphics.fillRect(0, 0, size.width, size.height);
+			return size;
+		}
+	}
+
+	private BufferedImage canvas;
+	private Graphics2D graphics;
+
+	@Before
+	public void before()
+	{
+		canvas = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		graphics = canvas.createGraphics();
+		graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12));
+	}
+
+	@After
+	public void after()
+	{
+		graphics.dispose();
+	}
+
+	private Dimension draw(Overlay overlay)
+	{
+		OverlayCache cache = overlay.cache;
+		return cache.drawCached(overlay, graphics) ? cache.getDimension() : cache.render(overlay, graphics);
+	}
+
+	@Test
+	public void testRetained()
+	{
+		CountingOverlay overlay = new CountingOverlay();
+
+		// the first frame is rendered directly, the second into the retained image
+		assertEquals(new Dimension(10, 10), draw(overlay));
+		assertEquals(new Dimension(10, 10), draw(overlay));
+		assertEquals(2, overlay.renders);
+
+		canvas.setRGB(5, 5, 0);
+		for (int i = 0; i < 10; ++i)
+		{
+			assertEquals(new Dimension(10, 10), draw(overlay));
+		}
+		assertEquals(2, overlay.renders);
+		assertEquals(Color.RED.getRGB(), canvas.getRGB(5, 5));
+
+		overlay.color = Color.BLUE;
+		overlay.markDirty();
+		draw(overlay);
+		draw(overlay);
+		assertEquals(3, overlay.renders);
+		assertEquals(Color.BLUE.getRGB(), canvas.getRGB(5, 5));
+	}
+
+	@Test
+	public void testGrow()
+	{
+		CountingOverlay overlay = new CountingOverlay();
+		draw(overlay);
+		draw(overlay);
+
+		overlay.size = new Dimension(20, 20);
+		overlay.markDirty();
+
+		// the retained image is too small, so the frame is drawn directly
+		assertEquals(new Dimension(20, 20), draw(overlay));
+		assertEquals(Color.RED.getRGB(), canvas.getRGB(15, 15));
+		assertTrue(overlay.dirty);
+
+		assertEquals(new Dimension(20, 20), draw(overlay));
+		assertFalse(overlay.dirty);
+
+		int renders = overlay.renders;
+		draw(overlay);
+		assertEquals(renders, overlay.renders);
+	}
+
+	@Test
+	public void testFontChange()
+	{
+		CountingOverlay overlay = new CountingOverlay();
+		draw(overlay);
+		draw(overlay);
+		assertEquals(2, overlay.renders);
+
+		graphics.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 12));
+		draw(overlay);
+		assertEquals(3, overlay.renders);
+	}
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.pluginprocessor;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes an index of the plugins being compiled, so the client can load them without scanning the classpath.
+ * The index has one tab separated record per line:
+ * <pre>
+ * plugin      class  name  configName  developerPlugin  loadWhenOutdated  loadInSafeMode
+ * dependency  class  dependency class
+ * subscribe   class  method  event class
+ * schedule    class  method
+ * </pre>
+ * Class names are binary names, as accepted by {@link ClassLoader#loadClass(String)}.
+ */
+@SupportedAnnotationTypes(PluginIndexProcessor.PLUGIN_DESCRIPTOR)
+public class PluginIndexProcessor extends AbstractProcessor
+{
+	/**
+	 * Must match PluginIndex in the client
+	 */
+	static final String INDEX = "net/runelite/client/plugins/plugins.index";
+
+	static final String PLUGIN_DESCRIPTOR = "net.runelite.client.plugins.PluginDescriptor";
+	private static final String PLUGIN_DEPENDENCY = "net.runelite.client.plugins.PluginDependency";
+	private static final String PLUGIN_DEPENDENCIES = "net.runelite.client.plugins.PluginDependencies";
+	private static final String SUBSCRIBE = "net.runelite.client.eventbus.Subscribe";
+	private static final String SCHEDULE = "net.runelite.client.task.Schedule";
+
+	// plugin class -> index records, sorted so the index is reproducible
+	private final Map<String, List<String>> records = new TreeMap<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		if (roundEnv.processingOver())
+		{
+			if (!records.isEmpty())
+			{
+				write();
+			}
+			return false;
+		}
+
+		final TypeElement descriptor = processingEnv.getElementUtils().getTypeElement(PLUGIN_DESCRIPTOR);
+		if (descriptor == null)
+		{
+			return false;
+		}
+
+		for (Element element : roundEnv.getElementsAnnotatedWith(descriptor))
+		{
+			if (element.getKind() != ElementKind.CLASS)
+			{
+				continue;
+			}
+
+			final TypeElement type = (TypeElement) element;
+			final String className = binaryName(type);
+			records.put(className, index(className, type));
+		}
+
+		// other processors, such as lombok, may want these annotations too
+		return false;
+	}
+
+	private List<String> index(String className, TypeElement type)
+	{
+		final List<String> lines = new ArrayList<>();
+		for (AnnotationMirror annotation : type.getAnnotationMirrors())
+		{
+			switch (annotationName(annotation))
+			{
+				case PLUGIN_DESCRIPTOR:
+				{
+					final Map<String, Object> values = values(annotation);
+					// the plugin record comes first, so the records which follow it have a plugin to attach to
+					lines.add(0, record("plugin", className, values.get("name"), values.get("configName"),
+						values.get("developerPlugin"), values.get("loadWhenOutdated"), values.get("loadInSafeMode")));
+					break;
+				}
+				case PLUGIN_DEPENDENCY:
+					lines.add(record("dependency", className, dependency(annotation)));
+					break;
+				case PLUGIN_DEPENDENCIES:
+					// repeated @PluginDependency are wrapped in their container
+					for (Object value : (List<?>) values(annotation).get("value"))
+					{
+						lines.add(record("dependency", className, dependency((AnnotationMirror) ((AnnotationValue) value).getValue())));
+					}
+					break;
+			}
+		}
+
+		for (Element enclosed : type.getEnclosedElements())
+		{
+			if (enclosed.getKind() != ElementKind.METHOD)
+			{
+				continue;
+			}
+
+			final ExecutableElement method = (ExecutableElement) enclosed;
+			for (AnnotationMirror annotation : method.getAnnotationMirrors())
+			{
+				final String name = annotationName(annotation);
+				if (name.equals(SUBSCRIBE) && method.getParameters().size() == 1)
+				{
+					lines.add(record("subscribe", className, method.getSimpleName(), typeName(method.getParameters().get(0).asType())));
+				}
+				else if (name.equals(SCHEDULE))
+				{
+					lines.add(record("schedule", className, method.getSimpleName()));
+				}
+			}
+		}
+		return lines;
+	}
+
+	private void write()
+	{
+		final Map<String, List<String>> index = new TreeMap<>(records);
+		// in an incremental build only the changed sources are processed, so keep the records of plugins
+		// which weren't recompiled but still exist
+		try
+		{
+			final FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+			try (Reader reader = existing.openReader(true);
+				BufferedReader in = new BufferedReader(reader))
+			{
+				String line;
+				while ((line = in.readLine()) != null)
+				{
+					final String[] fields = line.split("\t");
+					if (fields.length < 2 || records.containsKey(fields[1])
+						|| processingEnv.getElementUtils().getTypeElement(fields[1].replace('$', '.')) == null)
+					{
+						continue;
+					}
+					index.computeIfAbsent(fields[1], k -> new ArrayList<>()).add(line);
+				}
+			}
+		}
+		catch (FileNotFoundException | NoSuchFileException ex)
+		{
+			// first build
+		}
+		catch (IOException ex)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Unable to read existing plugin index: " + ex);
+		}
+
+		try
+		{
+			final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+			try (Writer out = file.openWriter())
+			{
+				for (List<String> lines : index.values())
+				{
+					for (String line : lines)
+					{
+						out.write(line);
+						out.write('\n');
+					}
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write plugin index: " + ex);
+		}
+	}
+
+	private String binaryName(TypeElement type)
+	{
+		return processingEnv.getElementUtils().getBinaryName(type).toString();
+	}
+
+	private String dependency(AnnotationMirror annotation)
+	{
+		return typeName((TypeMirror) values(annotation).get("value"));
+	}
+
+	private String typeName(TypeMirror type)
+	{
+		if (type instanceof DeclaredType)
+		{
+			return binaryName((TypeElement) ((DeclaredType) type).asElement());
+		}
+		return type.toString();
+	}
+
+	private static String annotationName(AnnotationMirror annotation)
+	{
+		return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+	}
+
+	private Map<String, Object> values(AnnotationMirror annotation)
+	{
+		final Map<String, Object> values = new TreeMap<>();
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+			: processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet())
+		{
+			values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+		}
+		return values;
+	}
+
+	private static String record(Object... fields)
+	{
+		final StringBuilder sb = new StringBuilder();
+		for (Object field : fields)
+		{
+			if (sb.length() > 0)
+			{
+				sb.append('\t');
+			}
+			// tabs and newlines would break the record up
+			sb.append(String.valueOf(field).replace('\t', ' ').replace('\n', ' '));
+		}
+		return sb.toString();
+	}
+}